@@ -0,0 +1,118 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.auth.JwtAuthFilter.AuthPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증을 마친 access token → AuthPrincipal 캐시
+ * - key: 토큰 SHA-256 앞 128bit (원문 토큰은 보관하지 않음)
+ * - 만료: min(토큰 exp, 캐시 시점 + max-ttl) — 만료된 항목은 조회 시 제거되고 다시 파싱 → TOKEN_EXPIRED
+ * - 크기 제한: 16개 세그먼트 × access-order LRU (세그먼트 단위 락이라 경합 적음)
+ */
+@Component
+public class AccessTokenCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final long maxTtlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public AccessTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds
+    ) {
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.maxTtlMillis = maxTtlSeconds * 1000L;
+
+        this.hits = Counter.builder("auth.token-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.token-cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /** 캐시된 검증 결과 (없거나 만료면 null) */
+    public Entry get(String token) {
+        Digest key = digest(token);
+        Segment seg = segmentFor(key);
+        long now = System.currentTimeMillis();
+
+        synchronized (seg) {
+            Entry e = seg.get(key);
+            if (e != null && e.expiresAt > now) {
+                hits.increment();
+                return e;
+            }
+            if (e != null) seg.remove(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public Entry put(String token, AuthPrincipal principal, List<GrantedAuthority> authorities,
+                     String jti, long tokenExpiresAt) {
+        Digest key = digest(token);
+        Entry e = new Entry(principal, authorities, jti, tokenExpiresAt,
+                Math.min(tokenExpiresAt, System.currentTimeMillis() + maxTtlMillis));
+        Segment seg = segmentFor(key);
+        synchronized (seg) {
+            seg.put(key, e);
+        }
+        return e;
+    }
+
+    public void invalidateAll() {
+        for (Segment seg : segments) {
+            synchronized (seg) {
+                seg.clear();
+            }
+        }
+    }
+
+    private Segment segmentFor(Digest key) {
+        return segments[(int) (key.lo() & (SEGMENTS - 1))];
+    }
+
+    private static Digest digest(String token) {
+        byte[] h = TokenDigest.sha256(token);
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < 8; i++) {
+            hi = (hi << 8) | (h[i] & 0xFF);
+            lo = (lo << 8) | (h[i + 8] & 0xFF);
+        }
+        return new Digest(hi, lo);
+    }
+
+    /** tokenExpiresAt: 토큰 exp, expiresAt: 캐시 항목 만료 */
+    public record Entry(AuthPrincipal principal, List<GrantedAuthority> authorities,
+                        String jti, long tokenExpiresAt, long expiresAt) {}
+
+    private record Digest(long hi, long lo) {}
+
+    private static final class Segment extends LinkedHashMap<Digest, Entry> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Digest, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
 
     // ✅ 공통 ErrorResponse schema (반복 줄이기용으로 import alias가 안 돼서 그냥 schema만 통일)
     private static final Class<?> ERROR_SCHEMA = com.foodieblog.common.error.ErrorResponse.class;
@@ -46,7 +48,7 @@ public class AuthController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "429",
-                    description = "요청 한도 초과 (TOO_MANY_REQUESTS)",
+                    description = "요청 한도 초과 또는 로그인 실패 누적으로 계정 잠김 (TOO_MANY_REQUESTS)",
                     content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -62,7 +64,8 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ApiResponse<AuthResponse> login(@Valid @RequestBody LoginRequest req) {
-        System.out.println("[LOGIN HIT] email=" + req.getEmail());
+        // 잠긴 계정은 트랜잭션/DB 조회/BCrypt 전에 바로 거절
+        loginThrottle.check(req.getEmail());
         return ApiResponse.ok(authService.login(req));
     }
 
@@ -148,7 +151,7 @@ public class AuthController {
 
     @Operation(
             summary = "로그아웃",
-            description = "Refresh Token을 무효화하여 로그아웃 처리합니다. (서버가 Refresh Token을 저장/관리하는 경우에 유효)"
+            description = "Refresh Token을 무효화하고, 요청에 사용한 Access Token도 만료 전까지 사용할 수 없게 폐기합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -187,8 +190,10 @@ public class AuthController {
             )
     })
     @PostMapping("/logout")
-    public ApiResponse<Void> logout(@Valid @RequestBody com.foodieblog.auth.dto.LogoutRequest req) {
-        authService.logout(req.getRefreshToken());
+    public ApiResponse<Void> logout(@Valid @RequestBody com.foodieblog.auth.dto.LogoutRequest req,
+                                    HttpServletRequest request) {
+        authService.logout(req.getRefreshToken(),
+                (AccessTokenCache.Entry) request.getAttribute(JwtAuthFilter.ACCESS_TOKEN_ATTR));
         return ApiResponse.ok(null);
     }
 }
@@ -4,93 +4,124 @@ import com.foodieblog.auth.dto.AuthResponse;
 import com.foodieblog.auth.dto.LoginRequest;
 import com.foodieblog.common.error.BusinessException;
 import com.foodieblog.common.error.ErrorCode;
-import com.foodieblog.user.User;
+import com.foodieblog.stats.live.LiveActivityMetrics;
+import com.foodieblog.stats.live.LiveMetric;
 import com.foodieblog.user.UserRepository;
+import com.foodieblog.user.dto.LoginCredential;
+import com.foodieblog.user.dto.TokenClaims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
-
-    @Transactional
+    private final PasswordHasher passwordHasher;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final LoginThrottle loginThrottle;
+    private final TokenDenylist tokenDenylist;
+    private final UserStatusCache userStatusCache;
+
+    /**
+     * 로그인
+     * - BCrypt 는 해시 풀에서 줄 서며 수백 ms 걸리므로 트랜잭션(= DB 커넥션) 밖에서 실행
+     * - 조회(짧은 tx) → 해시 비교/재해시(tx 없음) → 로그인 기록 + 재해시 반영(짧은 tx) → refresh token 교체
+     */
     public AuthResponse login(LoginRequest req) {
         String email = req.getEmail();
         String password = req.getPassword();
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        LoginCredential user = userRepository.findLoginCredential(email).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(email);
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, user.passwordHash())) {
+            loginThrottle.recordFailure(email);
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
+        loginThrottle.recordSuccess(email);
 
-        // (선택) 로그인 시간 기록하고 싶으면
-        user.markLogin();
+        if (!user.active()) {
+            throw new BusinessException(ErrorCode.USER_DEACTIVATED);
+        }
+
+        // 저장된 해시의 cost 가 현재 설정보다 낮으면 원문을 아는 지금 재해시
+        String newHash = passwordHasher.needsRehash(user.passwordHash())
+                ? passwordHasher.encode(password)
+                : user.passwordHash();
+        userRepository.recordLogin(user.userId(), LocalDateTime.now(), user.passwordHash(), newHash);
+        liveActivityMetrics.record(LiveMetric.LOGINS);
 
         String accessToken = jwtProvider.generateAccessToken(
-                user.getUserId(),
-                user.getRole().name(),
-                user.getEmail(),
-                user.getNickname()
+                user.userId(),
+                user.role().name(),
+                user.email(),
+                user.nickname()
         );
 
-        // 1유저 1토큰 전략
-        refreshTokenRepository.deleteByUserId(user.getUserId());
-
+        // 1유저 1토큰 전략 (원문은 응답으로만 내보내고 digest만 저장)
         String refreshTokenValue = jwtProvider.generateRefreshToken();
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(refreshTokenValue)
-                .expiryAt(jwtProvider.refreshTokenExpiryAt())
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.replace(
+                user.userId(),
+                TokenDigest.sha256(refreshTokenValue),
+                jwtProvider.refreshTokenExpiryAt()
+        );
 
         AuthResponse.UserDto userDto = new AuthResponse.UserDto(
-                user.getUserId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getRole().name()
+                user.userId(),
+                user.email(),
+                user.nickname(),
+                user.role().name()
         );
 
         return AuthResponse.forLogin(accessToken, refreshTokenValue, userDto);
     }
 
-    @Transactional
+    /**
+     * access token 재발급
+     * - digest 로 토큰 조회 → claim 에 필요한 컬럼만 projection (User 엔티티 로딩 없음)
+     * - 만료 토큰 삭제가 예외 롤백에 묻히지 않도록 트랜잭션 없이 저장소 단위로 처리
+     */
     public AuthResponse refresh(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        byte[] tokenHash = TokenDigest.sha256(refreshTokenValue);
+        RefreshTokenStore.Stored stored = refreshTokenStore.find(tokenHash)
                 .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
 
-        if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
+        if (stored.isExpired()) {
+            refreshTokenStore.delete(tokenHash);
             throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
         }
 
-        User user = refreshToken.getUser();
+        if (!UserStatusCache.isActive(userStatusCache.get(stored.userId()))) {
+            throw new BusinessException(ErrorCode.USER_DEACTIVATED);
+        }
+
+        TokenClaims claims = userRepository.findTokenClaims(stored.userId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
 
         String newAccessToken = jwtProvider.generateAccessToken(
-                user.getUserId(),
-                user.getRole().name(),
-                user.getEmail(),
-                user.getNickname()
+                claims.userId(),
+                claims.role().name(),
+                claims.email(),
+                claims.nickname()
         );
 
         return AuthResponse.forRefresh(newAccessToken);
     }
 
-    @Transactional
-    public void logout(String refreshTokenValue) {
-        refreshTokenRepository.findByToken(refreshTokenValue)
-                .ifPresent(refreshTokenRepository::delete);
+    /** refresh token 삭제 + 현재 access token(jti) 폐기 */
+    public void logout(String refreshTokenValue, AccessTokenCache.Entry accessToken) {
+        refreshTokenStore.delete(TokenDigest.sha256(refreshTokenValue));
+        if (accessToken != null) {
+            tokenDenylist.revoke(accessToken.jti(), accessToken.tokenExpiresAt());
+        }
     }
 
 }
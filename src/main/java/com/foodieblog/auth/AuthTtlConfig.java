@@ -0,0 +1,20 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.ttl.TtlTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 인증 관련 만료 데이터 정리 대상 (common/ttl/TtlJanitor) */
+@Configuration
+public class AuthTtlConfig {
+
+    @Bean
+    public TtlTable refreshTokensTtl() {
+        return new TtlTable("refresh_tokens", "id", "expiry_at");
+    }
+
+    @Bean
+    public TtlTable revokedTokensTtl() {
+        return new TtlTable("revoked_tokens", "jti", "expires_at");
+    }
+}
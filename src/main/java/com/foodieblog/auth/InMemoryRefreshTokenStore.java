@@ -0,0 +1,94 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.concurrent.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 메모리 refresh token 저장소 (auth.refresh-token-store=memory)
+ * - digest → (userId, 만료) / userId → digest 두 맵으로 1유저 1토큰 유지
+ * - 만료 정리는 timing wheel 이 tick 마다 해당 슬롯만 확인
+ * - 재시작하면 모든 refresh token 이 사라진다 (재로그인 필요)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<Key, Stored> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Key> byUser = new ConcurrentHashMap<>();
+    private final TimingWheel<Key> wheel;
+
+    public InMemoryRefreshTokenStore(
+            @Value("${auth.memory-store.tick-ms:1000}") long tickMillis,
+            @Value("${auth.memory-store.wheel-size:4096}") int wheelSize
+    ) {
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    public void replace(Long userId, byte[] tokenHash, Instant expiryAt) {
+        Key key = Key.of(tokenHash);
+        // userId 단위로 직렬화 → 동시 로그인 시에도 토큰은 하나만 남는다
+        byUser.compute(userId, (id, previous) -> {
+            // 다른 사용자의 digest 는 덮어쓰지 않는다 (덮어쓰면 그 세션을 가로채게 됨)
+            Stored owner = tokens.putIfAbsent(key, new Stored(userId, expiryAt));
+            if (owner != null && !owner.userId().equals(userId)) {
+                throw new IllegalStateException("refresh token digest already owned by another user");
+            }
+            if (owner != null) tokens.put(key, new Stored(userId, expiryAt));
+            if (previous != null && !previous.equals(key)) tokens.remove(previous);
+            return key;
+        });
+        wheel.schedule(key, expiryAt.toEpochMilli());
+    }
+
+    @Override
+    public Optional<Stored> find(byte[] tokenHash) {
+        return Optional.ofNullable(tokens.get(Key.of(tokenHash)));
+    }
+
+    @Override
+    public void delete(byte[] tokenHash) {
+        Key key = Key.of(tokenHash);
+        Stored stored = tokens.remove(key);
+        if (stored != null) byUser.remove(stored.userId(), key);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        Key key = byUser.remove(userId);
+        if (key != null) tokens.remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.memory-store.tick-ms:1000}")
+    public void expire() {
+        Instant now = Instant.now();
+        int expired = wheel.advance(now.toEpochMilli(), key -> {
+            // 그 사이 재발급/삭제됐을 수 있으니 실제로 만료된 경우만 제거
+            Stored stored = tokens.get(key);
+            if (stored != null && !stored.expiryAt().isAfter(now) && tokens.remove(key, stored)) {
+                byUser.remove(stored.userId(), key);
+            }
+        });
+        if (expired > 0) {
+            log.debug("[AUTH] memory refresh-token store expired={} remaining={}", expired, tokens.size());
+        }
+    }
+
+    /** 32byte digest 를 long 4개로 보관 (equals/hashCode 용) */
+    private record Key(long a, long b, long c, long d) {
+        static Key of(byte[] digest) {
+            ByteBuffer buf = ByteBuffer.wrap(digest);
+            return new Key(buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong());
+        }
+    }
+}
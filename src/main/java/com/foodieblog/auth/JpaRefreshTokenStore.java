@@ -0,0 +1,52 @@
+package com.foodieblog.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void replace(Long userId, byte[] tokenHash, Instant expiryAt) {
+        // 다른 사용자의 digest 와 겹치면 unique 위반(500) 대신 명시적으로 거절
+        refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(rt -> !rt.getUserId().equals(userId))
+                .ifPresent(rt -> {
+                    throw new IllegalStateException("refresh token digest already owned by another user");
+                });
+        refreshTokenRepository.deleteByUserId(userId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(tokenHash)
+                .expiryAt(expiryAt)
+                .build());
+    }
+
+    // 로그아웃 직후의 토큰이 replica 지연 동안 살아 있지 않도록 readOnly 아님 → replica 라우팅 대상에서 제외 (primary 고정)
+    @Override
+    @Transactional
+    public Optional<Stored> find(byte[] tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(rt -> new Stored(rt.getUserId(), rt.getExpiryAt()));
+    }
+
+    @Override
+    public void delete(byte[] tokenHash) {
+        refreshTokenRepository.deleteByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,8 +20,13 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static final String AUTH_ERROR_CODE_ATTR = "AUTH_ERROR_CODE";
+    // 검증된 access token 정보 (AccessTokenCache.Entry) — 로그아웃 시 jti 폐기용
+    public static final String ACCESS_TOKEN_ATTR = "ACCESS_TOKEN";
 
     private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -36,41 +42,73 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = auth.substring(7);
 
         try {
-            Claims claims = jwtProvider.parseClaims(token);
+            // ✅ 같은 토큰 재사용 시 서명 검증/JSON 파싱 생략
+            AccessTokenCache.Entry verified = accessTokenCache.get(token);
+            if (verified == null) {
+                verified = verify(token);
+            }
+
+            // ✅ 캐시 적중이어도 폐기 여부는 매번 확인 (대부분 Bloom 음성으로 바로 통과)
+            if (tokenDenylist.isRevoked(verified.jti())) {
+                throw new JwtProvider.TokenInvalidException();
+            }
+
+            // ✅ 비활성화/역할 변경은 토큰 만료를 기다리지 않고 바로 반영 (캐시 적중 시 DB 조회 없음)
+            long status = userStatusCache.get(verified.principal().userId());
+            if (!UserStatusCache.exists(status)) {
+                throw new JwtProvider.TokenInvalidException();
+            }
+            if (!UserStatusCache.isActive(status)) {
+                reject(request, response, chain, ErrorCode.USER_DEACTIVATED);
+                return;
+            }
+            if (!UserStatusCache.roleName(status).equals(verified.principal().role())) {
+                // 역할이 바뀐 토큰 → 재발급 유도 (refresh 는 현재 역할로 발급)
+                throw new JwtProvider.TokenExpiredException();
+            }
+            request.setAttribute(ACCESS_TOKEN_ATTR, verified);
+
+            var authentication = new UsernamePasswordAuthenticationToken(
+                    verified.principal(), null, verified.authorities());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            String userId = claims.getSubject();
-            String role = (String) claims.get("role");
+            chain.doFilter(request, response);
 
-            String normalized = role.startsWith("ROLE_") ? role : "ROLE_" + role;
-            var authorities = List.of(new SimpleGrantedAuthority(normalized));
+        } catch (JwtProvider.TokenExpiredException e) {
+            reject(request, response, chain, ErrorCode.TOKEN_EXPIRED);
 
-            var principal = new AuthPrincipal(
-                    Long.parseLong(userId),
-                    (String) claims.get("email"),
-                    (String) claims.get("nickname"),
-                    role
-            );
+        } catch (JwtProvider.TokenInvalidException e) {
+            reject(request, response, chain, ErrorCode.UNAUTHORIZED);
+        }
+    }
 
-            var authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+    /** 인증 없이 진행 → 보호된 경로면 entry point 가 code 로 응답 */
+    private void reject(HttpServletRequest request, HttpServletResponse response, FilterChain chain, ErrorCode code)
+            throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        request.setAttribute(AUTH_ERROR_CODE_ATTR, code);
+        chain.doFilter(request, response);
+    }
 
-            chain.doFilter(request, response);
+    private AccessTokenCache.Entry verify(String token) {
+        Claims claims = jwtProvider.parseClaims(token);
 
-            System.out.println("[FILTER] " + request.getMethod() + " " + request.getRequestURI()
-                    + " auth=" + request.getHeader("Authorization"));
+        String userId = claims.getSubject();
+        String role = (String) claims.get("role");
 
+        String normalized = role.startsWith("ROLE_") ? role : "ROLE_" + role;
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(normalized));
 
-        } catch (JwtProvider.TokenExpiredException e) {
-            SecurityContextHolder.clearContext();
-            request.setAttribute(AUTH_ERROR_CODE_ATTR, ErrorCode.TOKEN_EXPIRED);
-            chain.doFilter(request, response);
+        var principal = new AuthPrincipal(
+                Long.parseLong(userId),
+                (String) claims.get("email"),
+                (String) claims.get("nickname"),
+                role
+        );
 
-        } catch (JwtProvider.TokenInvalidException e) {
-            SecurityContextHolder.clearContext();
-            request.setAttribute(AUTH_ERROR_CODE_ATTR, ErrorCode.UNAUTHORIZED);
-            chain.doFilter(request, response);
-        }
+        return accessTokenCache.put(token, principal, authorities, claims.getId(), claims.getExpiration().getTime());
     }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
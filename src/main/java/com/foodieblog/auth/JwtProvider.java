@@ -7,15 +7,20 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey key;
+    private final JwtParser parser; // 불변·스레드 안전 → 한 번만 생성
     private final long accessTokenExpiryMs;
     private final long refreshTokenExpiryMs;
+    private final SecureRandom random = new SecureRandom();
 
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
@@ -23,6 +28,7 @@ public class JwtProvider {
             @Value("${jwt.refresh-expiry-ms}") long refreshTokenExpiryMs
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpiryMs = accessTokenExpiryMs;
         this.refreshTokenExpiryMs = refreshTokenExpiryMs;
     }
@@ -30,6 +36,7 @@ public class JwtProvider {
     // ✅ email/nickname 포함하도록 변경
     public String generateAccessToken(Long userId, String role, String email, String nickname) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti — 로그아웃 시 TokenDenylist 로 폐기
                 .subject(String.valueOf(userId))
                 .claim("role", role)
                 .claim("email", email)
@@ -40,8 +47,12 @@ public class JwtProvider {
                 .compact();
     }
 
+    // 초 단위 iat/exp 만으로는 같은 초의 로그인끼리 토큰(= digest 키)이 같아진다 → 256bit 난수 jti 로 유일하게
     public String generateRefreshToken() {
+        byte[] nonce = new byte[32];
+        random.nextBytes(nonce);
         return Jwts.builder()
+                .id(Base64.getUrlEncoder().withoutPadding().encodeToString(nonce))
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiryMs))
                 .signWith(key)
@@ -50,11 +61,7 @@ public class JwtProvider {
 
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException();
         } catch (JwtException | IllegalArgumentException e) {
@@ -0,0 +1,215 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import com.foodieblog.common.sketch.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 계정(email) 단위 로그인 실패 제한
+ * - IP 분산 credential stuffing 대응: RateLimitFilter(ip|path)와 별개로 email 기준으로 센다
+ * - email 원문은 저장하지 않고 프로세스별 seed 를 섞은 64bit 해시만 키로 사용
+ * - 실패 수는 sliding window 근사 (직전 창 * 남은 비율 + 현재 창)
+ * - 한도 초과 시 잠금, 잠길 때마다 잠금 시간 2배 (max-lock-seconds 까지), 로그인 성공 시 초기화
+ * - 고정 크기 open addressing 테이블 (segment 16개) → 탐색 구간이 차면 가장 오래된 항목을 덮어씀
+ *
+ * check 는 DB/BCrypt 전에 호출되며 배열 몇 칸만 읽는다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final int SEGMENTS = 16;
+    private static final int PROBE = 8;
+
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long baseLockMillis;
+    private final long maxLockMillis;
+
+    private final Counter rejected;
+    private final Counter lockouts;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${login.throttle.max-failures:5}") int maxFailures,
+            @Value("${login.throttle.window-seconds:300}") long windowSeconds,
+            @Value("${login.throttle.base-lock-seconds:30}") long baseLockSeconds,
+            @Value("${login.throttle.max-lock-seconds:3600}") long maxLockSeconds,
+            @Value("${login.throttle.max-entries:65536}") int maxEntries
+    ) {
+        this.maxFailures = maxFailures;
+        this.windowMillis = windowSeconds * 1000L;
+        this.baseLockMillis = baseLockSeconds * 1000L;
+        this.maxLockMillis = maxLockSeconds * 1000L;
+
+        int perSegment = Integer.highestOneBit(Math.max(PROBE, maxEntries / SEGMENTS - 1) << 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+
+        this.rejected = Counter.builder("auth.login-throttle.rejected").register(meterRegistry);
+        this.lockouts = Counter.builder("auth.login-throttle.lockouts").register(meterRegistry);
+    }
+
+    /** 잠긴 계정이면 TOO_MANY_REQUESTS */
+    public void check(String email) {
+        check(email, System.currentTimeMillis());
+    }
+
+    public void recordFailure(String email) {
+        recordFailure(email, System.currentTimeMillis());
+    }
+
+    // 시각을 받는 버전 (테스트에서 창/잠금 경계를 직접 지정)
+    void check(String email, long now) {
+        long key = key(email);
+        if (segmentFor(key).lockedUntil(key, now) > now) {
+            rejected.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    void recordFailure(String email, long now) {
+        long key = key(email);
+        if (segmentFor(key).fail(key, now)) {
+            lockouts.increment();
+            log.info("[AUTH] login locked by throttle key={}", Long.toHexString(key));
+        }
+    }
+
+    public void recordSuccess(String email) {
+        long key = key(email);
+        segmentFor(key).clear(key);
+    }
+
+    private long key(String email) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        long key = Hashing.combine(h, seed);
+        return key == 0 ? 1 : key; // 0 은 빈 칸 표시
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (key >>> 60) & (SEGMENTS - 1)];
+    }
+
+    /** 병렬 배열 기반 고정 크기 테이블 (segment 단위 락) */
+    private final class Segment {
+
+        private final int mask;
+        private final long[] keys;
+        private final long[] windowStart;
+        private final int[] previous;
+        private final int[] current;
+        private final long[] lockedUntil;
+        private final int[] level;     // 연속 잠금 횟수 → 다음 잠금 시간 지수
+        private final long[] lastSeen;
+
+        Segment(int capacity) {
+            this.mask = capacity - 1;
+            this.keys = new long[capacity];
+            this.windowStart = new long[capacity];
+            this.previous = new int[capacity];
+            this.current = new int[capacity];
+            this.lockedUntil = new long[capacity];
+            this.level = new int[capacity];
+            this.lastSeen = new long[capacity];
+        }
+
+        synchronized long lockedUntil(long key, long now) {
+            int slot = find(key);
+            return slot < 0 ? 0L : lockedUntil[slot];
+        }
+
+        /** 실패 1회 기록, 이번에 잠겼으면 true */
+        synchronized boolean fail(long key, long now) {
+            int slot = find(key);
+            if (slot < 0) slot = claim(key, now);
+
+            // 오래 조용했던 계정은 잠금 단계도 초기화
+            if (now - lastSeen[slot] > maxLockMillis) level[slot] = 0;
+            lastSeen[slot] = now;
+
+            roll(slot, now);
+            current[slot]++;
+
+            double elapsed = (double) (now - windowStart[slot]) / windowMillis;
+            double estimate = previous[slot] * (1.0 - elapsed) + current[slot];
+            if (estimate < maxFailures) return false;
+
+            long lock = Math.min(maxLockMillis, baseLockMillis << Math.min(level[slot], 30));
+            lockedUntil[slot] = now + lock;
+            level[slot]++;
+            previous[slot] = 0;
+            current[slot] = 0;
+            windowStart[slot] = now;
+            return true;
+        }
+
+        synchronized void clear(long key) {
+            int slot = find(key);
+            if (slot >= 0) keys[slot] = 0L;
+        }
+
+        private void roll(int slot, long now) {
+            long elapsed = now - windowStart[slot];
+            if (elapsed < windowMillis) return;
+            previous[slot] = elapsed < windowMillis * 2 ? current[slot] : 0;
+            current[slot] = 0;
+            windowStart[slot] = now - (elapsed % windowMillis);
+        }
+
+        private int find(long key) {
+            int base = (int) key & mask;
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                if (keys[slot] == key) return slot;
+            }
+            return -1;
+        }
+
+        /** 빈 칸, 없으면 탐색 구간에서 가장 오래된(잠금 중이 아닌 것 우선) 칸을 재사용 */
+        private int claim(long key, long now) {
+            int base = (int) key & mask;
+            int victim = -1;
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                if (keys[slot] == 0L) {
+                    victim = slot;
+                    break;
+                }
+                if (victim < 0 || older(slot, victim, now)) victim = slot;
+            }
+            keys[victim] = key;
+            windowStart[victim] = now;
+            previous[victim] = 0;
+            current[victim] = 0;
+            lockedUntil[victim] = 0L;
+            level[victim] = 0;
+            lastSeen[victim] = now;
+            return victim;
+        }
+
+        private boolean older(int a, int b, long now) {
+            boolean aLocked = lockedUntil[a] > now;
+            boolean bLocked = lockedUntil[b] > now;
+            if (aLocked != bLocked) return !aLocked;
+            return lastSeen[a] < lastSeen[b];
+        }
+    }
+}
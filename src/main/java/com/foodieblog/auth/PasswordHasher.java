@@ -0,0 +1,155 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/검증 전용 실행기
+ * - 요청 스레드 대신 고정 크기 풀에서 실행 → 로그인 폭주 때도 BCrypt가 쓰는 CPU는 pool-size 코어로 제한
+ * - 큐가 가득 차거나 wait-timeout 안에 끝나지 않으면 바로 SERVICE_UNAVAILABLE (요청 스레드를 오래 잡지 않음)
+ * - cost 는 기동 시 target-ms 에 맞춰 측정해서 결정 (min-cost ~ max-cost)
+ * - 저장된 해시의 cost 가 현재 cost 보다 낮으면 needsRehash → 로그인 성공 시 재해시
+ *   (cost 는 노드마다 측정값이 다를 수 있어서, 더 높은 cost 의 해시를 낮추지는 않는다)
+ * - 지표: auth.password-hash.duration{op}, auth.password-hash.rejected, auth.password-hash.queued/active, auth.password-hash.cost
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.pool-size:2}") int poolSize,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.wait-timeout-ms:3000}") long waitTimeoutMillis,
+            @Value("${password.hash.target-ms:250}") long targetMillis,
+            @Value("${password.hash.min-cost:10}") int minCost,
+            @Value("${password.hash.max-cost:14}") int maxCost
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.cost = calibrate(targetMillis, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(cost);
+
+        this.encodeTimer = Timer.builder("auth.password-hash.duration").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password-hash.duration").tag("op", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password-hash.rejected").register(meterRegistry);
+        Gauge.builder("auth.password-hash.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password-hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("auth.password-hash.cost", () -> cost).register(meterRegistry);
+    }
+
+    /**
+     * target 안에 들어오는 가장 큰 cost 선택
+     * - min-cost 1회 측정 후 cost+1 마다 2배로 추정 (높은 cost 를 실제로 돌려보지 않음)
+     * - 첫 실행은 JIT 워밍업이라 한 번 버리고 측정
+     */
+    private static int calibrate(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        int chosen = minCost;
+        while (chosen < maxCost && millis * 2 <= targetMillis) {
+            millis *= 2;
+            chosen++;
+        }
+        log.info("[AUTH] bcrypt cost calibrated cost={} estimatedMs={} targetMs={}", chosen, Math.round(millis), targetMillis);
+        return chosen;
+    }
+
+    /** 시드/디버그 등 요청 밖에서 쓰는 동기 인코더 (같은 cost) */
+    public PasswordEncoder encoder() {
+        return encoder;
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return submit(() -> matchesTimer.recordCallable(() -> encoder.matches(rawPassword, passwordHash)));
+    }
+
+    /** 저장된 해시의 cost ($2a$NN$...) 가 현재 cost 보다 낮으면 true (높은 쪽은 그대로 둠 → 노드 간 재해시 반복 없음) */
+    public boolean needsRehash(String passwordHash) {
+        if (passwordHash == null || passwordHash.length() < 7 || passwordHash.charAt(0) != '$') {
+            return true;
+        }
+        int sep = passwordHash.indexOf('$', 1);
+        if (sep < 0 || sep + 3 > passwordHash.length()) return true;
+        try {
+            return Integer.parseInt(passwordHash.substring(sep + 1, sep + 3)) < cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[AUTH] password hash rejected queued={}", executor.getQueue().size());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new CompletionException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,31 +1,37 @@
 package com.foodieblog.auth;
 
-import com.foodieblog.user.User;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
 
+/**
+ * refresh token (JpaRefreshTokenStore 용)
+ * - 원문 대신 SHA-256 digest(32byte 고정폭)만 저장 → 좁은 인덱스로 조회, DB 유출 시에도 토큰 재사용 불가
+ */
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expiry_at", columnList = "expiry_at")
+})
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false, unique = true)
-    private User user;
+    // 1유저 1토큰
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
 
-    @Column(nullable = false)
+    // 만료 행은 TtlJanitor 가 배치로 삭제 (AuthTtlConfig)
+    @Column(name = "expiry_at", nullable = false)
     private Instant expiryAt;
 
     public boolean isExpired() {
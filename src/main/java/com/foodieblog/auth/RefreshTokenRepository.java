@@ -8,10 +8,17 @@ import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    // readOnly 아님 → replica 라우팅 대상에서 제외 (primary 고정)
+    @Transactional
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("delete from RefreshToken rt where rt.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
-    @Query("delete from RefreshToken rt where rt.user.userId = :userId")
+    @Query("delete from RefreshToken rt where rt.userId = :userId")
     int deleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,27 @@
+package com.foodieblog.auth;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * refresh token 저장소 (키 = 토큰 SHA-256 digest, 1유저 1토큰)
+ * - auth.refresh-token-store=jpa (기본): refresh_tokens 테이블
+ * - auth.refresh-token-store=memory: 단일 노드용 메모리 저장 (timing wheel 로 만료 정리, 재시작 시 소멸)
+ */
+public interface RefreshTokenStore {
+
+    /** 사용자의 기존 토큰을 지우고 새 토큰 저장 (digest 가 다른 사용자 소유면 IllegalStateException) */
+    void replace(Long userId, byte[] tokenHash, Instant expiryAt);
+
+    Optional<Stored> find(byte[] tokenHash);
+
+    void delete(byte[] tokenHash);
+
+    void deleteByUserId(Long userId);
+
+    record Stored(Long userId, Instant expiryAt) {
+        public boolean isExpired() {
+            return expiryAt.isBefore(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.foodieblog.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // denylist 재구성/동기화는 readOnly 아님 → replica 라우팅 대상에서 제외 (primary 고정)
+    @Transactional
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    // 다른 인스턴스에서 폐기한 토큰 동기화용
+    @Transactional
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+}
@@ -1,9 +1,17 @@
 package com.foodieblog.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodieblog.common.accesslog.AccessLog;
+import com.foodieblog.common.accesslog.AccessLogFilter;
 import com.foodieblog.common.error.ErrorCode;
 import com.foodieblog.common.error.ErrorResponse;
+import com.foodieblog.common.loadshed.ConcurrencyLimitFilter;
+import com.foodieblog.common.loadshed.ConcurrencyLimiter;
 import com.foodieblog.common.ratelimit.RateLimitFilter;
+import com.foodieblog.common.ratelimit.RateLimitProperties;
+import com.foodieblog.common.ratelimit.RateLimitStore;
+import com.foodieblog.stats.live.HttpStatusMetricsFilter;
+import com.foodieblog.stats.live.LiveActivityMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,7 +20,6 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -29,22 +36,26 @@ import static org.springframework.http.HttpMethod.POST;
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
+    private final PasswordHasher passwordHasher;
+    private final TokenDenylist tokenDenylist;
+    private final UserStatusCache userStatusCache;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final AccessLog accessLog;
+    private final RateLimitStore rateLimitStore;
+    private final RateLimitProperties rateLimitProperties;
+    private final ConcurrencyLimiter concurrencyLimiter;
 
     // ✅ Spring이 관리하는 ObjectMapper를 주입받는다 (JavaTimeModule 포함)
     private final ObjectMapper objectMapper;
 
-    @Value("${ratelimit.max-requests:30}")
-    private int rateLimitMax;
-
-    @Value("${ratelimit.window-seconds:60}")
-    private long rateLimitWindowSeconds;
-
     @Value("${request.max-body-bytes:1048576}") // 1MB
     private long maxBodyBytes;
 
+    // 요청 경로의 해시/검증은 PasswordHasher 를 거친다 (같은 cost 의 인코더)
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return passwordHasher.encoder();
     }
 
     @Bean
@@ -59,6 +70,9 @@ public class SecurityConfig {
 
                         .requestMatchers("/error").permitAll()
 
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .requestMatchers(POST, "/api/auth/login").permitAll()
                         .requestMatchers(POST, "/api/auth/refresh").permitAll()
                         .requestMatchers(POST, "/api/users").permitAll()
@@ -67,6 +81,7 @@ public class SecurityConfig {
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/posts/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/posts/*/comments").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/comments/{commentId}").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/comments/*/reactions").permitAll()
 
                         .requestMatchers(
                                 "/v3/api-docs/**",
@@ -77,9 +92,18 @@ public class SecurityConfig {
                 )
 
 
-                 .addFilterBefore(new RateLimitFilter(rateLimitMax, rateLimitWindowSeconds, maxBodyBytes),
+                 // ✅ 가장 바깥: 레이트리밋/인증 실패(4xx)까지 상태코드 집계
+                 .addFilterBefore(new HttpStatusMetricsFilter(liveActivityMetrics),
+                        UsernamePasswordAuthenticationFilter.class)
+                 .addFilterBefore(new AccessLogFilter(accessLog),
+                        UsernamePasswordAuthenticationFilter.class)
+                 .addFilterBefore(new JwtAuthFilter(jwtProvider, accessTokenCache, tokenDenylist, userStatusCache),
+                        UsernamePasswordAuthenticationFilter.class)
+                 // ✅ 인증 다음: key=user 정책이 userId 로 셀 수 있게
+                 .addFilterBefore(new RateLimitFilter(rateLimitStore, rateLimitProperties.compile(), maxBodyBytes),
                         UsernamePasswordAuthenticationFilter.class)
-                 .addFilterBefore(new JwtAuthFilter(jwtProvider),
+                 // ✅ 레이트리밋 다음: 동시 처리 한도 초과분은 우선순위 낮은 것부터 503
+                 .addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter),
                         UsernamePasswordAuthenticationFilter.class)
 
                 .exceptionHandling(ex -> ex
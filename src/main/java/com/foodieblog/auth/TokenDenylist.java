@@ -0,0 +1,137 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.sketch.BloomFilter;
+import com.foodieblog.common.sketch.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 access token(jti) denylist
+ * - 매 요청 확인: Bloom filter 두 세대(current/previous)에서 "확실히 없음"이면 바로 통과 (대부분의 요청)
+ * - Bloom 양성일 때만 exact set(jti → 만료) 확인 → 오탐으로 정상 토큰이 막히지 않음
+ * - 세대 교체 주기 = access token 수명 → 폐기 시점에 넣은 항목은 최소 한 수명 동안 남고 이후 자연 소멸
+ * - revoked_tokens 테이블이 원본: 기동 시 재구성, 주기적으로 다른 인스턴스의 폐기분을 가져옴 (만료 행 삭제는 TtlJanitor)
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final long rotateMillis;
+    private final long expectedRevocations;
+    private final double fpp;
+
+    private volatile Generations generations;
+    private final ConcurrentHashMap<String, Long> exact = new ConcurrentHashMap<>();
+    private volatile Instant syncedAt = Instant.EPOCH;
+
+    private final Counter negatives;
+    private final Counter falsePositives;
+    private final Counter revokedHits;
+
+    public TokenDenylist(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.access-expiry-ms}") long accessTokenExpiryMs,
+            @Value("${auth.denylist.expected-revocations:100000}") long expectedRevocations,
+            @Value("${auth.denylist.fpp:0.001}") double fpp
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.rotateMillis = accessTokenExpiryMs;
+        this.expectedRevocations = expectedRevocations;
+        this.fpp = fpp;
+        this.generations = new Generations(newFilter(), newFilter(), System.currentTimeMillis());
+
+        this.negatives = Counter.builder("auth.denylist.checks").tag("result", "negative").register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.denylist.checks").tag("result", "false_positive").register(meterRegistry);
+        this.revokedHits = Counter.builder("auth.denylist.checks").tag("result", "revoked").register(meterRegistry);
+        Gauge.builder("auth.denylist.size", exact, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /** 요청을 받기 전에 채워 둔다 (ApplicationReadyEvent 는 포트가 열린 뒤라 늦음) */
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        List<RevokedToken> rows = revokedTokenRepository.findByExpiresAtAfter(now);
+        rows.forEach(this::remember);
+        syncedAt = now;
+        log.info("[AUTH] token denylist loaded size={}", rows.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false; // jti 도입 전 발급 토큰
+
+        long key = key(jti);
+        Generations g = generations;
+        if (!g.current.mightContain(key) && !g.previous.mightContain(key)) {
+            negatives.increment();
+            return false;
+        }
+        if (exact.containsKey(jti)) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /** jti 폐기 (원래 만료 시각까지) */
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) return;
+        RevokedToken row = RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(Instant.ofEpochMilli(expiresAtMillis))
+                .revokedAt(Instant.now())
+                .build();
+        revokedTokenRepository.save(row);
+        remember(row);
+    }
+
+    /** 세대 교체 + 다른 인스턴스 폐기분 동기화 + 메모리 만료 정리 */
+    @Scheduled(fixedDelayString = "${auth.denylist.sync-interval-ms:10000}")
+    public void sync() {
+        long nowMillis = System.currentTimeMillis();
+        Generations g = generations;
+        if (nowMillis - g.rotatedAt >= rotateMillis) {
+            generations = new Generations(newFilter(), g.current, nowMillis);
+        }
+        exact.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+        // 경계에서 놓치지 않도록 직전 동기화 시각보다 조금 앞에서부터 조회 (중복은 무해)
+        Instant now = Instant.ofEpochMilli(nowMillis);
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(syncedAt.minusSeconds(5), now)
+                .forEach(this::remember);
+        syncedAt = now;
+    }
+
+    private void remember(RevokedToken row) {
+        exact.put(row.getJti(), row.getExpiresAt().toEpochMilli());
+        generations.current.put(key(row.getJti()));
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(expectedRevocations, fpp);
+    }
+
+    private static long key(String jti) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < jti.length(); i++) {
+            h ^= jti.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return Hashing.mix64(h);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long rotatedAt) {}
+}
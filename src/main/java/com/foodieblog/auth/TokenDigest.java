@@ -0,0 +1,34 @@
+package com.foodieblog.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/** 토큰 원문 대신 저장/조회 키로 쓰는 SHA-256 digest */
+public final class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    // MessageDigest는 스레드 안전하지 않음 → 호출마다 prototype 복제 (getInstance 의 provider 조회 없음)
+    // ThreadLocal 재사용은 virtual thread 모드(요청마다 새 스레드)에선 재사용이 안 되고 인스턴스만 쌓여서 쓰지 않는다
+    private static final MessageDigest SHA256;
+
+    static {
+        try {
+            SHA256 = MessageDigest.getInstance("SHA-256");
+            SHA256.clone();
+        } catch (NoSuchAlgorithmException | CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TokenDigest() {}
+
+    public static byte[] sha256(String token) {
+        try {
+            return ((MessageDigest) SHA256.clone()).digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e); // static 초기화에서 확인했으므로 오지 않음
+        }
+    }
+}
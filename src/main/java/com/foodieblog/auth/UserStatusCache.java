@@ -0,0 +1,203 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.sketch.Hashing;
+import com.foodieblog.user.User;
+import com.foodieblog.user.UserRepository;
+import com.foodieblog.user.dto.UserStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * userId → (존재, active, role) 캐시 — JwtAuthFilter 가 매 요청 확인
+ * - 값은 long 하나로 pack (상태 + 로딩 시각), 키는 long → 세그먼트별 open addressing 배열 (박싱/할당 없음)
+ * - 미스일 때만 PK 로 두 컬럼 조회 (없는 사용자도 NOT_FOUND 로 캐시)
+ * - adminDeactivate/adminActivate/adminChangeRole 이 invalidate → 이 인스턴스는 다음 요청부터 즉시 반영
+ * - 다른 인스턴스: sync-interval 마다 users.status_changed_at 으로 변경된 userId 만 가져와 무효화 (TokenDenylist.sync 와 같은 방식)
+ * - 항목마다 ttl: 동기화를 놓친 경우의 안전망, 로딩 시각이 제각각이라 전체 비우기처럼 DB 조회가 한꺼번에 몰리지 않음
+ * - version(epoch): 로딩 중 무효화가 끼어들면 읽어온 값은 이번 요청에만 쓰고 캐시에는 넣지 않는다
+ */
+@Slf4j
+@Component
+public class UserStatusCache {
+
+    private static final int SEGMENTS = 16;
+    private static final int PROBE = 8;
+
+    private static final long EXISTS = 1L << 8;
+    private static final long ACTIVE = 1L;
+    private static final long NOT_FOUND = 1L << 9;
+    private static final int LOADED_SHIFT = 16; // 상위 48bit: 로딩 시각 (baseSeconds 기준 초)
+    private static final long STATUS_MASK = (1L << LOADED_SHIFT) - 1;
+    private static final long SYNC_OVERLAP_SECONDS = 5; // 커밋 지연/노드 간 시계 차이 여유 (중복 무효화는 무해)
+    private static final User.Role[] ROLES = User.Role.values();
+
+    private final UserRepository userRepository;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong epoch = new AtomicLong();
+    private final long baseSeconds = System.currentTimeMillis() / 1000 - 1;
+    private final long ttlSeconds;
+    private volatile LocalDateTime syncedAt = LocalDateTime.now();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-status-cache.max-entries:100000}") int maxEntries,
+            @Value("${auth.user-status-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.ttlSeconds = ttlSeconds;
+        int perSegment = Integer.highestOneBit(Math.max(PROBE, maxEntries / SEGMENTS - 1) << 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.hits = Counter.builder("auth.user-status-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.user-status-cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /** pack 된 상태 (exists/isActive/role 로 해석) */
+    public long get(long userId) {
+        Segment seg = segmentFor(userId);
+        long nowSeconds = nowSeconds();
+        long cached = seg.get(userId);
+        if (cached != 0L && nowSeconds - (cached >>> LOADED_SHIFT) < ttlSeconds) {
+            hits.increment();
+            return cached & STATUS_MASK;
+        }
+        misses.increment();
+
+        long before = epoch.get();
+        long loaded = userRepository.findStatus(userId)
+                .map(UserStatusCache::pack)
+                .orElse(NOT_FOUND);
+        if (epoch.get() == before) {
+            seg.putIfUnchanged(userId, loaded | (nowSeconds << LOADED_SHIFT), before, epoch);
+        }
+        return loaded;
+    }
+
+    /** 상태 변경 즉시 + 커밋 이후 한 번 더 (커밋 전 값이 다시 캐시되는 것 방지) */
+    public void invalidate(long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /** 다른 인스턴스에서 바뀐 사용자만 무효화 */
+    @Scheduled(fixedDelayString = "${auth.user-status-cache.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changed = userRepository.findStatusChangedSince(syncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        for (Long userId : changed) {
+            evict(userId);
+        }
+        syncedAt = now;
+        if (!changed.isEmpty()) {
+            log.debug("[AUTH] user status cache synced changed={}", changed.size());
+        }
+    }
+
+    public static boolean exists(long status) {
+        return (status & EXISTS) != 0;
+    }
+
+    public static boolean isActive(long status) {
+        return (status & ACTIVE) != 0;
+    }
+
+    public static String roleName(long status) {
+        return ROLES[(int) ((status >>> 1) & 0x7F)].name();
+    }
+
+    private void evict(long userId) {
+        epoch.incrementAndGet();
+        segmentFor(userId).remove(userId);
+    }
+
+    private static long pack(UserStatus s) {
+        return EXISTS | ((long) s.role().ordinal() << 1) | (s.active() ? ACTIVE : 0L);
+    }
+
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000 - baseSeconds;
+    }
+
+    private Segment segmentFor(long userId) {
+        return segments[(int) (Hashing.mix64(userId) >>> 60)];
+    }
+
+    /** keys/values 병렬 배열, values == 0 이면 빈 칸 */
+    private static final class Segment {
+
+        private final int mask;
+        private final long[] keys;
+        private final long[] values;
+        private int cursor; // 탐색 구간이 가득 찼을 때 돌아가며 덮어쓸 위치
+
+        Segment(int capacity) {
+            this.mask = capacity - 1;
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+
+        synchronized long get(long key) {
+            int base = index(key);
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                if (values[slot] != 0L && keys[slot] == key) return values[slot];
+            }
+            return 0L;
+        }
+
+        /** 조회 시작 이후 무효화가 없었을 때만 저장 */
+        synchronized void putIfUnchanged(long key, long value, long expectedEpoch, AtomicLong epoch) {
+            if (epoch.get() != expectedEpoch) return;
+            int base = index(key);
+            int free = -1;
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                if (values[slot] != 0L && keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                if (free < 0 && values[slot] == 0L) free = slot;
+            }
+            if (free < 0) {
+                free = (base + cursor) & mask;
+                cursor = (cursor + 1) % PROBE;
+            }
+            keys[free] = key;
+            values[free] = value;
+        }
+
+        synchronized void remove(long key) {
+            int base = index(key);
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                if (values[slot] != 0L && keys[slot] == key) values[slot] = 0L;
+            }
+        }
+
+        private int index(long key) {
+            return (int) Hashing.mix64(key) & mask;
+        }
+    }
+}
@@ -8,7 +8,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 관리자 필터 조합: postId+status, postId 단독, authorId, status 단독 — 모두 createdAt 정렬까지 인덱스로 처리
+        // (post_id, status, created_at) 는 status 없이 postId 만 주면 created_at 순서를 못 줘서 (post_id, created_at) 별도
+        @Index(name = "idx_comments_post_status_created", columnList = "post_id, status, created_at"),
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_at"),
+        @Index(name = "idx_comments_author_created", columnList = "author_id, created_at"),
+        @Index(name = "idx_comments_status_created", columnList = "status, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
@@ -1,6 +1,8 @@
 package com.foodieblog.comment;
 
 import com.foodieblog.auth.JwtAuthFilter.AuthPrincipal;
+import com.foodieblog.comment.dto.CommentBulkRequest;
+import com.foodieblog.comment.dto.CommentBulkResponse;
 import com.foodieblog.comment.dto.CommentCreateRequest;
 import com.foodieblog.comment.dto.CommentResponse;
 import com.foodieblog.comment.dto.CommentUpdateRequest;
@@ -184,10 +186,12 @@ public class CommentController {
             description = """
                     관리자(ROLE_ADMIN) 전용 댓글 조회 API입니다.
                     
-                    ✅ 필터:
+                    ✅ 필터 (여러 개 지정 시 모두 AND로 결합):
                     - postId: 특정 게시글 댓글만
                     - authorId: 특정 작성자 댓글만
                     - status: 댓글 상태 (예: VISIBLE/HIDDEN 등 프로젝트 정의)
+                    - createdFrom/createdTo: 작성일 범위 (yyyy-MM-dd, 양 끝 포함)
+                    - keyword: 댓글 내용 검색
                     
                     ✅ 페이지네이션/정렬:
                     - page, size, sort (Spring Pageable)
@@ -228,9 +232,22 @@ public class CommentController {
             @Parameter(description = "댓글 상태 필터 (예: VISIBLE, HIDDEN)", example = "VISIBLE")
             @RequestParam(required = false) CommentStatus status,
 
+            @Parameter(description = "작성일 시작 (yyyy-MM-dd)", example = "2025-12-01")
+            @RequestParam(required = false)
+            @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE)
+            java.time.LocalDate createdFrom,
+
+            @Parameter(description = "작성일 끝 (yyyy-MM-dd)", example = "2025-12-31")
+            @RequestParam(required = false)
+            @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE)
+            java.time.LocalDate createdTo,
+
+            @Parameter(description = "댓글 내용 키워드", example = "맛있")
+            @RequestParam(required = false) String keyword,
+
             @ParameterObject Pageable pageable
     ) {
-        return ApiResponse.ok(commentService.adminList(postId, authorId, status, pageable));
+        return ApiResponse.ok(commentService.adminList(postId, authorId, status, createdFrom, createdTo, keyword, pageable));
     }
 
     /** 6) ADMIN: 특정 유저 댓글 */
@@ -442,4 +459,79 @@ public class CommentController {
     ) {
         commentService.adminShow(commentId);
     }
+
+    /** 11) ADMIN: 일괄 숨김 */
+    @Operation(
+            summary = "댓글 일괄 숨김 (관리자)",
+            description = "관리자(ROLE_ADMIN) 전용: 여러 댓글을 한 번에 숨김(HIDDEN) 처리합니다. 이미 숨김인 댓글은 건너뜁니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 검증 실패 (VALIDATION_FAILED, BAD_REQUEST)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 필요 (FORBIDDEN)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            )
+    })
+    @PostMapping("/comments/bulk/hide")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CommentBulkResponse> bulkHide(@Valid @RequestBody CommentBulkRequest req) {
+        int affected = commentService.adminBulkHide(req.getCommentIds());
+        return ApiResponse.ok(new CommentBulkResponse(req.getCommentIds().size(), affected));
+    }
+
+    /** 12) ADMIN: 일괄 표시 */
+    @Operation(
+            summary = "댓글 일괄 표시 (관리자)",
+            description = "관리자(ROLE_ADMIN) 전용: 여러 댓글을 한 번에 표시(VISIBLE) 처리합니다. 이미 표시 중인 댓글은 건너뜁니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 검증 실패 (VALIDATION_FAILED, BAD_REQUEST)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 필요 (FORBIDDEN)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            )
+    })
+    @PostMapping("/comments/bulk/show")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CommentBulkResponse> bulkShow(@Valid @RequestBody CommentBulkRequest req) {
+        int affected = commentService.adminBulkShow(req.getCommentIds());
+        return ApiResponse.ok(new CommentBulkResponse(req.getCommentIds().size(), affected));
+    }
+
+    /** 13) ADMIN: 일괄 삭제 */
+    @Operation(
+            summary = "댓글 일괄 삭제 (관리자)",
+            description = "관리자(ROLE_ADMIN) 전용: 여러 댓글을 한 번에 삭제합니다. 존재하지 않는 ID는 무시합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 검증 실패 (VALIDATION_FAILED, BAD_REQUEST)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 필요 (FORBIDDEN)",
+                    content = @Content(schema = @Schema(implementation = com.foodieblog.common.error.ErrorResponse.class))
+            )
+    })
+    @PostMapping("/comments/bulk/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CommentBulkResponse> bulkDelete(@Valid @RequestBody CommentBulkRequest req) {
+        int affected = commentService.adminBulkDelete(req.getCommentIds());
+        return ApiResponse.ok(new CommentBulkResponse(req.getCommentIds().size(), affected));
+    }
 }
@@ -3,14 +3,11 @@ package com.foodieblog.comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-
-import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
 
     // 공개: VISIBLE만
     List<Comment> findByPost_IdAndStatusOrderByCreatedAtAsc(
@@ -24,24 +21,5 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             Pageable pageable
     );
 
-    // ADMIN: 게시글별
-    Page<Comment> findByPost_IdOrderByCreatedAtDesc(
-            Long postId,
-            Pageable pageable
-    );
-
-    // ADMIN: 상태별
-    Page<Comment> findByStatusOrderByCreatedAtDesc(
-            CommentStatus status,
-            Pageable pageable
-    );
-
-    @Query("""
-    select function('date', c.createdAt) as d, count(c)
-    from Comment c
-    where c.createdAt >= :from
-    group by function('date', c.createdAt)
-    order by d asc
-""")
-    List<Object[]> countCommentsDaily(@Param("from") LocalDateTime from);
+    // ADMIN: 필터 조합 조회는 CommentSpecifications 사용
 }
@@ -3,20 +3,39 @@ package com.foodieblog.comment;
 import com.foodieblog.comment.dto.CommentCreateRequest;
 import com.foodieblog.comment.dto.CommentResponse;
 import com.foodieblog.comment.dto.CommentUpdateRequest;
+import com.foodieblog.comment.spam.CommentSpamFilter;
+import com.foodieblog.comment.spam.SpamVerdict;
 import com.foodieblog.common.error.BusinessException;
 import com.foodieblog.common.error.ErrorCode;
 import com.foodieblog.post.Post;
 import com.foodieblog.post.PostRepository;
+import com.foodieblog.reaction.ReactionService;
+import com.foodieblog.reaction.ReactionTargetType;
+import com.foodieblog.stats.DailyStatsRollup;
+import com.foodieblog.stats.live.LiveActivityMetrics;
+import com.foodieblog.stats.topk.HeavyHitters;
+import com.foodieblog.stats.live.LiveMetric;
 import com.foodieblog.user.User;
 import com.foodieblog.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -24,6 +43,11 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CommentSpamFilter commentSpamFilter;
+    private final DailyStatsRollup dailyStatsRollup;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final HeavyHitters heavyHitters;
+    private final ReactionService reactionService;
 
     /** 1) 공개 댓글 목록(VISIBLE만) */
     @Transactional(readOnly = true)
@@ -45,11 +69,24 @@ public class CommentService {
         User author = userRepository.findById(authorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Comment saved = commentRepository.save(Comment.builder()
+        Comment comment = Comment.builder()
                 .post(post)
                 .author(author)
                 .content(req.getContent())
-                .build());
+                .build();
+
+        // ✅ 금칙어/도배로 판정되면 HIDDEN으로 저장 (관리자가 검토 후 표시 가능)
+        SpamVerdict verdict = commentSpamFilter.inspect(postId, authorId, req.getContent());
+        if (verdict.isSpam()) {
+            comment.hide();
+            log.info("[SPAM] comment hidden postId={} authorId={} verdict={}", postId, authorId, verdict);
+        }
+
+        Comment saved = commentRepository.save(comment);
+        postRepository.addCommentCounts(postId, saved.getStatus() == CommentStatus.VISIBLE ? 1 : 0, 1);
+        dailyStatsRollup.addComments(saved.getCreatedAt(), currentCategories(List.of(postId)).get(postId), 1);
+        heavyHitters.addComment(saved.getCreatedAt().toLocalDate(), authorId, 1);
+        liveActivityMetrics.record(LiveMetric.COMMENTS);
 
         return CommentResponse.from(saved);
     }
@@ -73,22 +110,33 @@ public class CommentService {
                 .map(CommentResponse::from);
     }
 
-    /** 5) ADMIN: 댓글 전체 조회 + 필터 */
+    /** 5) ADMIN: 댓글 전체 조회 + 필터 (모든 조건 AND 결합, 쿼리 1번) */
     @Transactional(readOnly = true)
-    public Page<CommentResponse> adminList(Long postId, Long authorId, CommentStatus status, Pageable pageable) {
-        Page<Comment> page;
-
-        if (postId != null) {
-            page = commentRepository.findByPost_IdOrderByCreatedAtDesc(postId, pageable);
-        } else if (authorId != null) {
-            page = commentRepository.findByAuthor_UserIdOrderByCreatedAtDesc(authorId, pageable);
-        } else if (status != null) {
-            page = commentRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
-        } else {
-            page = commentRepository.findAll(pageable);
+    public Page<CommentResponse> adminList(
+            Long postId,
+            Long authorId,
+            CommentStatus status,
+            LocalDate createdFrom,
+            LocalDate createdTo,
+            String keyword,
+            Pageable pageable
+    ) {
+        Specification<Comment> spec = alwaysTrue();
+
+        spec = spec.and(safeSpec(CommentSpecifications.postId(postId)));
+        spec = spec.and(safeSpec(CommentSpecifications.authorId(authorId)));
+        spec = spec.and(safeSpec(CommentSpecifications.status(status)));
+        spec = spec.and(safeSpec(CommentSpecifications.createdFrom(createdFrom)));
+        spec = spec.and(safeSpec(CommentSpecifications.createdTo(createdTo)));
+        spec = spec.and(safeSpec(CommentSpecifications.keyword(keyword)));
+
+        // 정렬 미지정 시 기존과 같이 최신순
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(Sort.Direction.DESC, "createdAt"));
         }
 
-        return page.map(CommentResponse::from);
+        return commentRepository.findAll(spec, pageable).map(CommentResponse::from);
     }
 
     /** 6) ADMIN: 특정 유저 댓글 */
@@ -113,7 +161,16 @@ public class CommentService {
     public void adminDelete(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+        reactionService.deleteForTargets(ReactionTargetType.COMMENT, List.of(commentId));
         commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        postRepository.addCommentCounts(
+                postId,
+                comment.getStatus() == CommentStatus.VISIBLE ? -1 : 0,
+                -1
+        );
+        dailyStatsRollup.addComments(comment.getCreatedAt(), currentCategories(List.of(postId)).get(postId), -1);
+        heavyHitters.addComment(comment.getCreatedAt().toLocalDate(), comment.getAuthor().getUserId(), -1);
     }
 
     /** 9) ADMIN: 숨김 */
@@ -121,7 +178,10 @@ public class CommentService {
     public void adminHide(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
-        comment.hide();
+        if (comment.getStatus() == CommentStatus.VISIBLE) {
+            comment.hide();
+            postRepository.addCommentCounts(comment.getPost().getId(), -1, 0);
+        }
     }
 
     /** 10) ADMIN: 표시 */
@@ -129,6 +189,103 @@ public class CommentService {
     public void adminShow(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
-        comment.show();
+        if (comment.getStatus() == CommentStatus.HIDDEN) {
+            comment.show();
+            postRepository.addCommentCounts(comment.getPost().getId(), 1, 0);
+        }
+    }
+
+    /** 11) ADMIN: 일괄 숨김 */
+    @Transactional
+    public int adminBulkHide(List<Long> commentIds) {
+        return bulkChangeStatus(commentIds, CommentStatus.HIDDEN);
+    }
+
+    /** 12) ADMIN: 일괄 표시 */
+    @Transactional
+    public int adminBulkShow(List<Long> commentIds) {
+        return bulkChangeStatus(commentIds, CommentStatus.VISIBLE);
+    }
+
+    /** 13) ADMIN: 일괄 삭제 */
+    @Transactional
+    public int adminBulkDelete(List<Long> commentIds) {
+        List<Comment> comments = commentRepository.findAllById(commentIds);
+
+        // postId -> [visibleDelta, totalDelta]
+        Map<Long, long[]> deltas = new HashMap<>();
+        // 작성 시각(정각) -> (postId -> 삭제 수), 카테고리는 게시글 행 갱신 뒤에 읽는다
+        Map<LocalDateTime, Map<Long, Long>> byPost = new HashMap<>();
+        for (Comment c : comments) {
+            long[] d = deltas.computeIfAbsent(c.getPost().getId(), k -> new long[2]);
+            if (c.getStatus() == CommentStatus.VISIBLE) d[0]--;
+            d[1]--;
+
+            byPost.computeIfAbsent(c.getCreatedAt().truncatedTo(ChronoUnit.HOURS), k -> new HashMap<>())
+                    .merge(c.getPost().getId(), 1L, Long::sum);
+            heavyHitters.addComment(c.getCreatedAt().toLocalDate(), c.getAuthor().getUserId(), -1);
+        }
+
+        reactionService.deleteForTargets(ReactionTargetType.COMMENT,
+                comments.stream().map(Comment::getCommentId).toList());
+        commentRepository.deleteAllInBatch(comments);
+        applyCountDeltas(deltas);
+
+        // 작성 시각(정각) -> (categoryId -> 삭제 수)
+        Map<Long, Long> categories = currentCategories(deltas.keySet());
+        Map<LocalDateTime, Map<Long, Long>> statDeltas = new HashMap<>();
+        byPost.forEach((hour, counts) -> counts.forEach((postId, n) ->
+                statDeltas.computeIfAbsent(hour, k -> new HashMap<>()).merge(categories.get(postId), n, Long::sum)));
+        statDeltas.forEach((hour, byCategory) ->
+                byCategory.forEach((categoryId, n) -> dailyStatsRollup.addComments(hour, categoryId, -n)));
+        return comments.size();
+    }
+
+    private int bulkChangeStatus(List<Long> commentIds, CommentStatus target) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        int changed = 0;
+
+        for (Comment c : commentRepository.findAllById(commentIds)) {
+            if (c.getStatus() == target) continue;
+
+            if (target == CommentStatus.HIDDEN) c.hide();
+            else c.show();
+
+            long[] d = deltas.computeIfAbsent(c.getPost().getId(), k -> new long[2]);
+            d[0] += (target == CommentStatus.VISIBLE) ? 1 : -1;
+            changed++;
+        }
+
+        applyCountDeltas(deltas);
+        return changed;
+    }
+
+    /** null이면 (1=1) 스펙으로 대체 */
+    private Specification<Comment> safeSpec(Specification<Comment> s) {
+        return (s == null) ? alwaysTrue() : s;
+    }
+
+    /** 항상 true (where절 1=1) */
+    private Specification<Comment> alwaysTrue() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /** 게시글별로 모아서 한 번씩만 갱신 */
+    private void applyCountDeltas(Map<Long, long[]> deltas) {
+        deltas.forEach((postId, d) -> postRepository.addCommentCounts(postId, d[0], d[1]));
+    }
+
+    /**
+     * postId -> 현재 categoryId
+     * - addCommentCounts 로 게시글 행을 갱신(잠금)한 뒤 호출 → 로딩해 둔 엔티티가 아니라 최신 커밋 값을 읽는다
+     * - 카테고리 이동(PostService.update)이 먼저 잠갔다면 그 커밋 후의 새 카테고리 → 이동분과 이중 계산되지 않음
+     */
+    private Map<Long, Long> currentCategories(Collection<Long> postIds) {
+        Map<Long, Long> out = new HashMap<>();
+        if (postIds.isEmpty()) return out;
+        for (Object[] r : postRepository.findCategoryIds(postIds)) {
+            out.put((Long) r[0], (Long) r[1]);
+        }
+        return out;
     }
 }
@@ -0,0 +1,44 @@
+package com.foodieblog.comment;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class CommentSpecifications {
+
+    private CommentSpecifications() {}
+
+    public static Specification<Comment> postId(Long postId) {
+        if (postId == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("post").get("id"), postId);
+    }
+
+    public static Specification<Comment> authorId(Long authorId) {
+        if (authorId == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("author").get("userId"), authorId);
+    }
+
+    public static Specification<Comment> status(CommentStatus status) {
+        if (status == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 작성일(createdAt) 기준, from 당일 00:00 이상
+    public static Specification<Comment> createdFrom(LocalDate from) {
+        if (from == null) return null;
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay());
+    }
+
+    // to 당일 포함 (다음날 00:00 미만) → 인덱스 range scan 유지
+    public static Specification<Comment> createdTo(LocalDate to) {
+        if (to == null) return null;
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay());
+    }
+
+    // 본문 키워드 (LIKE '%k%'는 인덱스를 못 타므로 다른 조건과 함께 쓰는 것을 권장)
+    public static Specification<Comment> keyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        String k = "%" + keyword.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("content")), k);
+    }
+}
@@ -0,0 +1,19 @@
+package com.foodieblog.comment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkRequest {
+
+    @NotEmpty(message = "댓글 ID 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 처리할 수 있습니다.")
+    private List<Long> commentIds;
+}
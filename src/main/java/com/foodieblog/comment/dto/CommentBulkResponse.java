@@ -0,0 +1,11 @@
+package com.foodieblog.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentBulkResponse {
+    private int requested;
+    private int affected;
+}
@@ -0,0 +1,147 @@
+package com.foodieblog.comment.spam;
+
+import java.util.*;
+
+/**
+ * 금칙어 사전 매처 (Aho-Corasick)
+ * - 생성 시점에 trie + fail 링크를 만들고 배열로 평탄화한다.
+ * - 생성 후에는 불변이라 여러 스레드가 락 없이 공유 가능.
+ * - matches()는 객체 할당 없이 문자열을 한 번만 훑는다. (대소문자 무시)
+ */
+public final class AhoCorasickMatcher {
+
+    private static final AhoCorasickMatcher EMPTY = compile(List.of());
+
+    // state s의 간선: edgeLabel/edgeTarget[edgeOffset[s] .. edgeOffset[s+1]) (label 오름차순)
+    private final int[] edgeOffset;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] fail;
+    private final boolean[] output;
+    private final int termCount;
+
+    private AhoCorasickMatcher(int[] edgeOffset, char[] edgeLabel, int[] edgeTarget,
+                               int[] fail, boolean[] output, int termCount) {
+        this.edgeOffset = edgeOffset;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.fail = fail;
+        this.output = output;
+        this.termCount = termCount;
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    public static AhoCorasickMatcher compile(Collection<String> terms) {
+        // 1) trie 구성 (빌드 단계라 Map 사용)
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(false);
+
+        int count = 0;
+        for (String raw : terms) {
+            if (raw == null || raw.isBlank()) continue;
+            String term = raw.trim();
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                char c = Character.toLowerCase(term.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(false);
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (!terminal.get(state)) count++;
+            terminal.set(state, true);
+        }
+
+        // 2) 배열로 평탄화
+        int n = children.size();
+        int edges = 0;
+        for (TreeMap<Character, Integer> m : children) edges += m.size();
+
+        int[] edgeOffset = new int[n + 1];
+        char[] edgeLabel = new char[edges];
+        int[] edgeTarget = new int[edges];
+        int pos = 0;
+        for (int s = 0; s < n; s++) {
+            edgeOffset[s] = pos;
+            for (Map.Entry<Character, Integer> e : children.get(s).entrySet()) {
+                edgeLabel[pos] = e.getKey();
+                edgeTarget[pos] = e.getValue();
+                pos++;
+            }
+        }
+        edgeOffset[n] = pos;
+
+        // 3) BFS로 fail 링크 + output 전파
+        int[] fail = new int[n];
+        boolean[] output = new boolean[n];
+        for (int s = 0; s < n; s++) output[s] = terminal.get(s);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeOffset[0]; e < edgeOffset[1]; e++) {
+            fail[edgeTarget[e]] = 0;
+            queue.add(edgeTarget[e]);
+        }
+        AhoCorasickMatcher partial = new AhoCorasickMatcher(edgeOffset, edgeLabel, edgeTarget, fail, output, count);
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (int e = edgeOffset[s]; e < edgeOffset[s + 1]; e++) {
+                int child = edgeTarget[e];
+                char c = edgeLabel[e];
+
+                int f = fail[s];
+                int next;
+                while ((next = partial.step(f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = (next >= 0) ? next : 0;
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+        return partial;
+    }
+
+    /** text 안에 금칙어가 하나라도 포함되어 있으면 true */
+    public boolean matches(CharSequence text) {
+        if (text == null || termCount == 0) return false;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = step(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = (next >= 0) ? next : 0;
+            if (output[state]) return true;
+        }
+        return false;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    /** 간선 이진 탐색 (없으면 -1) */
+    private int step(int state, char c) {
+        int lo = edgeOffset[state];
+        int hi = edgeOffset[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeLabel[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return edgeTarget[mid];
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.foodieblog.comment.spam;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "banned_terms")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BannedTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "banned_term_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String term;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public BannedTerm(String term) {
+        this.term = term;
+    }
+}
@@ -0,0 +1,56 @@
+package com.foodieblog.comment.spam;
+
+import com.foodieblog.comment.spam.dto.BannedTermCreateRequest;
+import com.foodieblog.comment.spam.dto.BannedTermResponse;
+import com.foodieblog.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/banned-terms")
+@Tag(name = "Banned Terms", description = "댓글 금칙어 관리 API (관리자)")
+public class BannedTermController {
+
+    private final BannedTermService bannedTermService;
+
+    /** 1) ADMIN: 금칙어 목록 */
+    @Operation(summary = "금칙어 목록 조회 (관리자)")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<BannedTermResponse>> list() {
+        return ApiResponse.ok(bannedTermService.list());
+    }
+
+    /** 2) ADMIN: 금칙어 추가 */
+    @Operation(
+            summary = "금칙어 추가 (관리자)",
+            description = "추가 즉시 댓글 스팸 필터에 반영됩니다. 금칙어가 포함된 댓글은 HIDDEN 상태로 저장됩니다."
+    )
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<BannedTermResponse> create(@Valid @RequestBody BannedTermCreateRequest req) {
+        return ApiResponse.ok(bannedTermService.create(req));
+    }
+
+    /** 3) ADMIN: 금칙어 삭제 */
+    @Operation(summary = "금칙어 삭제 (관리자)")
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(
+            @Parameter(description = "금칙어 ID", example = "1")
+            @PathVariable Long id
+    ) {
+        bannedTermService.delete(id);
+    }
+}
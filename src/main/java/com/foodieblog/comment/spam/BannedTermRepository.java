@@ -0,0 +1,14 @@
+package com.foodieblog.comment.spam;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BannedTermRepository extends JpaRepository<BannedTerm, Long> {
+
+    boolean existsByTerm(String term);
+
+    @Query("select b.term from BannedTerm b")
+    List<String> findAllTerms();
+}
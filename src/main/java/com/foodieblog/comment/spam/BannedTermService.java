@@ -0,0 +1,64 @@
+package com.foodieblog.comment.spam;
+
+import com.foodieblog.comment.spam.dto.BannedTermCreateRequest;
+import com.foodieblog.comment.spam.dto.BannedTermResponse;
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BannedTermService {
+
+    private final BannedTermRepository bannedTermRepository;
+    private final CommentSpamFilter commentSpamFilter;
+
+    /** 1) ADMIN: 금칙어 목록 */
+    @Transactional(readOnly = true)
+    public List<BannedTermResponse> list() {
+        return bannedTermRepository.findAll()
+                .stream().map(BannedTermResponse::from).toList();
+    }
+
+    /** 2) ADMIN: 금칙어 추가 → 매처 재생성 */
+    @Transactional
+    public BannedTermResponse create(BannedTermCreateRequest req) {
+        String term = req.getTerm().trim().toLowerCase();
+        if (bannedTermRepository.existsByTerm(term)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE);
+        }
+        BannedTerm saved = bannedTermRepository.save(new BannedTerm(term));
+        rebuildAfterCommit();
+        return BannedTermResponse.from(saved);
+    }
+
+    /** 3) ADMIN: 금칙어 삭제 → 매처 재생성 */
+    @Transactional
+    public void delete(Long id) {
+        BannedTerm term = bannedTermRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        bannedTermRepository.delete(term);
+        bannedTermRepository.flush();
+        rebuildAfterCommit();
+    }
+
+    /**
+     * 목록은 지금(변경 반영된 트랜잭션 안에서) 읽고, 매처 교체는 커밋 후에
+     * - 커밋 전에 교체하면 롤백돼도 매처에는 남는다
+     */
+    private void rebuildAfterCommit() {
+        List<String> terms = bannedTermRepository.findAllTerms();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commentSpamFilter.rebuild(terms);
+            }
+        });
+    }
+}
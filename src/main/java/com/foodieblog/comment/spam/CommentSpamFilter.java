@@ -0,0 +1,104 @@
+package com.foodieblog.comment.spam;
+
+import com.foodieblog.common.sketch.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 댓글 저장 전 스팸 검사 파이프라인
+ * 1) 금칙어: Aho-Corasick 매처 (volatile 참조 교체로 락 없이 hot-swap)
+ * 2) 도배: 정규화한 본문 지문을 (작성자, 지문) / (게시글, 지문) 키로 rolling count-min에 누적
+ *
+ * 요청 경로에서는 DB 접근/객체 할당이 없어 수 μs 안에 끝난다.
+ */
+@Slf4j
+@Component
+public class CommentSpamFilter {
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+
+    private final BannedTermRepository bannedTermRepository;
+
+    private final RollingCountMinSketch perAuthor;
+    private final RollingCountMinSketch perPost;
+    private final int maxPerAuthor;
+    private final int maxPerPost;
+
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.empty();
+
+    public CommentSpamFilter(
+            BannedTermRepository bannedTermRepository,
+            @Value("${spam.duplicate.window-seconds:600}") long windowSeconds,
+            @Value("${spam.duplicate.max-per-author:3}") int maxPerAuthor,
+            @Value("${spam.duplicate.max-per-post:5}") int maxPerPost,
+            @Value("${spam.duplicate.sketch-width:4096}") int sketchWidth
+    ) {
+        this.bannedTermRepository = bannedTermRepository;
+        this.perAuthor = new RollingCountMinSketch(4, sketchWidth, windowSeconds * 1000L);
+        this.perPost = new RollingCountMinSketch(4, sketchWidth, windowSeconds * 1000L);
+        this.maxPerAuthor = maxPerAuthor;
+        this.maxPerPost = maxPerPost;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /** DB의 금칙어 목록으로 매처를 다시 만들어 교체 */
+    public void reload() {
+        rebuild(bannedTermRepository.findAllTerms());
+    }
+
+    public void rebuild(Collection<String> terms) {
+        AhoCorasickMatcher next = AhoCorasickMatcher.compile(terms);
+        this.matcher = next;
+        log.info("[SPAM] banned-term matcher rebuilt terms={}", next.termCount());
+    }
+
+    public SpamVerdict inspect(Long postId, Long authorId, String content) {
+        if (matcher.matches(content)) {
+            return SpamVerdict.BANNED_TERM;
+        }
+
+        long fingerprint = fingerprint(content);
+        long now = System.currentTimeMillis();
+
+        int byAuthor = perAuthor.addAndEstimate(Hashing.combine(fingerprint, authorId), now);
+        int byPost = perPost.addAndEstimate(Hashing.combine(fingerprint, postId), now);
+
+        if (byAuthor > maxPerAuthor || byPost > maxPerPost) {
+            return SpamVerdict.DUPLICATE_FLOOD;
+        }
+        return SpamVerdict.CLEAN;
+    }
+
+    /**
+     * 유사 중복까지 잡기 위한 본문 지문 (FNV-1a 64)
+     * - 소문자화, 글자(letter)만 사용 → 공백/기호/숫자/이모지 변형 무시
+     * - 연속 반복 글자는 하나로 취급 ("ㅋㅋㅋㅋ" == "ㅋㅋ")
+     * - 글자가 하나도 없으면 (숫자/기호/이모지만) 공백만 뺀 원문으로 지문 → 서로 다른 "123"/"!!!" 가 한 지문으로 묶이지 않게
+     */
+    static long fingerprint(String content) {
+        long h = fnv(content, true);
+        return h != FNV_OFFSET ? h : fnv(content, false);
+    }
+
+    private static long fnv(String content, boolean lettersOnly) {
+        long h = FNV_OFFSET;
+        char prev = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = Character.toLowerCase(content.charAt(i));
+            if (c == prev || (lettersOnly ? !Character.isLetter(c) : Character.isWhitespace(c))) continue;
+            prev = c;
+            h ^= c;
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,79 @@
+package com.foodieblog.comment.spam;
+
+import com.foodieblog.common.sketch.Hashing;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 시간 창(window) 단위로 굴러가는 Count-Min sketch
+ * - 현재/직전 두 세대를 유지하고 window/2 마다 세대를 교체한다.
+ * - 추정치 = 두 세대 합의 최소값 → 최근 window/2 ~ window 구간의 빈도(과대추정만 있음)
+ * - 메모리는 depth * width * 2 개의 int로 고정.
+ */
+final class RollingCountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final long rotateMillis;
+
+    private final AtomicReference<Window> window;
+
+    RollingCountMinSketch(int depth, int width, long windowMillis) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.rotateMillis = Math.max(1L, windowMillis / 2);
+
+        long now = System.currentTimeMillis();
+        this.window = new AtomicReference<>(new Window(new AtomicIntegerArray(depth * width), emptyCells(), now));
+    }
+
+    /** key 빈도를 1 올리고, 올린 뒤의 추정 빈도를 반환 */
+    int addAndEstimate(long key, long nowMillis) {
+        Window w = current(nowMillis);
+
+        long h1 = Hashing.mix64(key);
+        long h2 = Hashing.mix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            int idx = i * width + ((int) ((h1 + i * h2) >>> 33) & mask);
+            int estimate = w.current.incrementAndGet(idx) + w.previous.get(idx);
+            if (estimate < min) min = estimate;
+        }
+        return min;
+    }
+
+    private Window current(long nowMillis) {
+        while (true) {
+            Window w = window.get();
+            if (nowMillis - w.startedAt < rotateMillis) return w;
+
+            // 한 번 이상 건너뛴 경우 직전 세대도 비운다
+            AtomicIntegerArray previous = (nowMillis - w.startedAt < rotateMillis * 2) ? w.current : emptyCells();
+            Window rotated = new Window(new AtomicIntegerArray(depth * width), previous, nowMillis);
+            if (window.compareAndSet(w, rotated)) return rotated;
+        }
+    }
+
+    private AtomicIntegerArray emptyCells() {
+        return new AtomicIntegerArray(depth * width);
+    }
+
+    private static final class Window {
+        final AtomicIntegerArray current;
+        final AtomicIntegerArray previous;
+        final long startedAt;
+
+        Window(AtomicIntegerArray current, AtomicIntegerArray previous, long startedAt) {
+            this.current = current;
+            this.previous = previous;
+            this.startedAt = startedAt;
+        }
+    }
+}
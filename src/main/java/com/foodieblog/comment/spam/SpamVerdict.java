@@ -0,0 +1,11 @@
+package com.foodieblog.comment.spam;
+
+public enum SpamVerdict {
+    CLEAN,
+    BANNED_TERM,
+    DUPLICATE_FLOOD;
+
+    public boolean isSpam() {
+        return this != CLEAN;
+    }
+}
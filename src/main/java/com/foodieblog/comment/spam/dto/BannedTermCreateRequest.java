@@ -0,0 +1,17 @@
+package com.foodieblog.comment.spam.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BannedTermCreateRequest {
+
+    @NotBlank(message = "금칙어는 필수입니다.")
+    @Size(max = 100, message = "금칙어는 최대 100자까지 가능합니다.")
+    private String term;
+}
@@ -0,0 +1,19 @@
+package com.foodieblog.comment.spam.dto;
+
+import com.foodieblog.comment.spam.BannedTerm;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BannedTermResponse {
+    private Long id;
+    private String term;
+    private LocalDateTime createdAt;
+
+    public static BannedTermResponse from(BannedTerm b) {
+        return new BannedTermResponse(b.getId(), b.getTerm(), b.getCreatedAt());
+    }
+}
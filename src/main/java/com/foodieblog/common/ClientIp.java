@@ -0,0 +1,22 @@
+package com.foodieblog.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/** 클라이언트 IP 추출 (리버스 프록시/로드밸런서 헤더 우선) */
+public final class ClientIp {
+
+    private ClientIp() {}
+
+    public static String resolve(HttpServletRequest request) {
+        String xff = request.getHeader("X-Forwarded-For");
+        if (xff != null && !xff.isBlank()) {
+            int comma = xff.indexOf(',');
+            return (comma < 0 ? xff : xff.substring(0, comma)).trim();
+        }
+        String xri = request.getHeader("X-Real-IP");
+        if (xri != null && !xri.isBlank()) {
+            return xri.trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
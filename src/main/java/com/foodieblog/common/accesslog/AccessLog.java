@@ -0,0 +1,201 @@
+package com.foodieblog.common.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * 구조화 접근 로그 (JSON lines)
+ * - 요청 스레드: ring buffer 슬롯에 필드만 기록 (할당/IO/락 없음)
+ * - 백그라운드 스레드: 모아서 JSON 한 줄씩 만들어 롤링 파일에 배치 기록
+ * - 가득 찼을 때: DROP(버리고 accesslog.dropped 증가) / BLOCK(block-timeout-ms 까지 대기 후 버림)
+ * - 토큰은 애초에 기록하지 않고(헤더/쿼리 미수집), 경로에 JWT 모양 문자열이 있으면 마스킹
+ */
+@Slf4j
+@Component
+public class AccessLog {
+
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    private static final Pattern JWT_LIKE = Pattern.compile("eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final int BATCH = 512;
+
+    private final boolean enabled;
+    private final OverflowPolicy overflow;
+    private final long blockTimeoutNanos;
+    private final long flushIntervalMillis;
+    private final AccessLogRing ring;
+    private final RollingFileWriter file;
+    private final Thread drainer;
+    private final StringBuilder line = new StringBuilder(256); // 소비자 스레드 전용
+
+    private final Counter dropped;
+    private final Counter written;
+
+    private volatile boolean running = true;
+
+    public AccessLog(
+            MeterRegistry meterRegistry,
+            @Value("${accesslog.enabled:true}") boolean enabled,
+            @Value("${accesslog.path:logs/access.log}") String path,
+            @Value("${accesslog.capacity:8192}") int capacity,
+            @Value("${accesslog.overflow:DROP}") OverflowPolicy overflow,
+            @Value("${accesslog.block-timeout-ms:5}") long blockTimeoutMillis,
+            @Value("${accesslog.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${accesslog.max-file-mb:50}") long maxFileMb,
+            @Value("${accesslog.max-files:5}") int maxFiles
+    ) throws IOException {
+        this.enabled = enabled;
+        this.overflow = overflow;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.ring = new AccessLogRing(Integer.highestOneBit(Math.max(2, capacity - 1) << 1));
+
+        this.dropped = Counter.builder("accesslog.dropped").register(meterRegistry);
+        this.written = Counter.builder("accesslog.written").register(meterRegistry);
+        Gauge.builder("accesslog.backlog", ring, AccessLogRing::backlog).register(meterRegistry);
+
+        if (enabled) {
+            this.file = new RollingFileWriter(Path.of(path), maxFileMb * 1024 * 1024, maxFiles);
+            this.drainer = new Thread(this::drainLoop, "access-log");
+            this.drainer.setDaemon(true);
+            this.drainer.start();
+        } else {
+            this.file = null;
+            this.drainer = null;
+        }
+    }
+
+    /**
+     * 요청 1건 기록 (요청 스레드)
+     * @param pathTemplate 매칭된 경로 템플릿 (없으면 URI)
+     * @param userId 인증 안 된 요청은 -1
+     * @param bytesIn/bytesOut 알 수 없으면 -1
+     */
+    public void record(String method, String pathTemplate, int status, long latencyNanos,
+                       long userId, long bytesIn, long bytesOut) {
+        if (!enabled) return;
+
+        long seq = claim();
+        if (seq < 0) {
+            dropped.increment();
+            return;
+        }
+        int i = ring.slot(seq);
+        ring.timestamps[i] = System.currentTimeMillis();
+        ring.methods[i] = method;
+        ring.paths[i] = pathTemplate;
+        ring.statuses[i] = status;
+        ring.latencyMicros[i] = latencyNanos / 1000;
+        ring.userIds[i] = userId;
+        ring.bytesIn[i] = bytesIn;
+        ring.bytesOut[i] = bytesOut;
+        ring.publish(seq);
+    }
+
+    private long claim() {
+        long seq = ring.tryClaim();
+        if (seq >= 0 || overflow == OverflowPolicy.DROP) return seq;
+
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (seq < 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(50_000);
+            seq = ring.tryClaim();
+        }
+        return seq;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                int n = drainBatch();
+                if (n == 0) {
+                    file.flush();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("[ACCESSLOG] write failed: {}", e.toString());
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private int drainBatch() throws IOException {
+        int total = 0;
+        int n;
+        do {
+            n = ring.drain(this::writeSlot, BATCH);
+            total += n;
+        } while (n == BATCH);
+        if (total > 0) written.increment(total);
+        return total;
+    }
+
+    private void writeSlot(int i) {
+        line.setLength(0);
+        line.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(ring.timestamps[i]), line);
+        line.append("\",\"method\":\"").append(ring.methods[i]);
+        line.append("\",\"path\":");
+        appendJsonString(redact(ring.paths[i]));
+        line.append(",\"status\":").append(ring.statuses[i]);
+        line.append(",\"latencyUs\":").append(ring.latencyMicros[i]);
+        if (ring.userIds[i] >= 0) line.append(",\"userId\":").append(ring.userIds[i]);
+        if (ring.bytesIn[i] >= 0) line.append(",\"bytesIn\":").append(ring.bytesIn[i]);
+        if (ring.bytesOut[i] >= 0) line.append(",\"bytesOut\":").append(ring.bytesOut[i]);
+        line.append("}\n");
+        try {
+            file.write(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String redact(String path) {
+        if (path == null) return "";
+        return path.contains("eyJ") ? JWT_LIKE.matcher(path).replaceAll("[REDACTED]") : path;
+    }
+
+    private void appendJsonString(String s) {
+        line.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(2000);
+            drainBatch();
+            file.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ACCESSLOG] close failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.foodieblog.common.accesslog;
+
+import com.foodieblog.auth.AccessTokenCache;
+import com.foodieblog.auth.JwtAuthFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/** 요청 1건당 AccessLog 한 줄 — 인증/레이트리밋 거절까지 남도록 바깥쪽에 둔다 */
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLog accessLog;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = 500;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            // 핸들러가 매칭됐으면 "/api/posts/{postId}" 형태의 템플릿 (id 값/카디널리티 노출 방지)
+            Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object token = request.getAttribute(JwtAuthFilter.ACCESS_TOKEN_ATTR);
+            long userId = token instanceof AccessTokenCache.Entry e ? e.principal().userId() : -1L;
+
+            accessLog.record(
+                    request.getMethod(),
+                    template instanceof String s ? s : request.getRequestURI(),
+                    status,
+                    System.nanoTime() - start,
+                    userId,
+                    request.getContentLengthLong(),
+                    contentLength(response)
+            );
+        }
+    }
+
+    private static long contentLength(HttpServletResponse response) {
+        String header = response.getHeader("Content-Length");
+        if (header == null) return -1L;
+        try {
+            return Long.parseLong(header);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.foodieblog.common.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 접근 로그 이벤트용 고정 크기 ring buffer (다중 생산자 / 단일 소비자)
+ * - 이벤트 필드는 미리 할당한 병렬 배열 슬롯에 직접 기록 → 요청 경로에서 객체 할당 없음
+ * - 생산자: claimed 를 CAS 로 한 칸 확보 → 필드 기록 → published[slot] = seq 로 공개
+ * - 소비자: published[slot] == 다음 seq 인 동안 읽고 consumed 를 전진
+ * - 소비자가 capacity 만큼 뒤처지면 tryClaim 은 -1 (덮어쓰지 않음)
+ */
+final class AccessLogRing {
+
+    private final int capacity;
+    private final int mask;
+
+    final long[] timestamps;
+    final String[] methods;
+    final String[] paths;
+    final int[] statuses;
+    final long[] latencyMicros;
+    final long[] userIds;
+    final long[] bytesIn;
+    final long[] bytesOut;
+
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    AccessLogRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.methods = new String[capacity];
+        this.paths = new String[capacity];
+        this.statuses = new int[capacity];
+        this.latencyMicros = new long[capacity];
+        this.userIds = new long[capacity];
+        this.bytesIn = new long[capacity];
+        this.bytesOut = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+    }
+
+    /** 빈 칸이 있으면 seq, 가득 찼으면 -1 */
+    long tryClaim() {
+        while (true) {
+            long seq = claimed.get();
+            if (seq - consumed >= capacity) return -1L;
+            if (claimed.compareAndSet(seq, seq + 1)) return seq;
+        }
+    }
+
+    int slot(long seq) {
+        return (int) seq & mask;
+    }
+
+    /** 필드 기록을 마친 뒤 호출 (volatile write 로 소비자에게 공개) */
+    void publish(long seq) {
+        published.set(slot(seq), seq);
+    }
+
+    /** 공개된 이벤트를 최대 max 개까지 순서대로 넘긴다 (소비자 스레드 전용) */
+    int drain(SlotConsumer consumer, int max) {
+        long next = consumed;
+        int n = 0;
+        while (n < max && published.get(slot(next)) == next) {
+            consumer.accept(slot(next));
+            next++;
+            n++;
+        }
+        if (n > 0) {
+            // 참조 필드는 슬롯 재사용 전까지 남아 있어도 무해 (경로 템플릿/메서드는 공유 문자열)
+            consumed = next;
+        }
+        return n;
+    }
+
+    long backlog() {
+        return claimed.get() - consumed;
+    }
+
+    @FunctionalInterface
+    interface SlotConsumer {
+        void accept(int slot);
+    }
+}
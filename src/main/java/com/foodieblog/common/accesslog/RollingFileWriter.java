@@ -0,0 +1,70 @@
+package com.foodieblog.common.accesslog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 크기 기준 롤링 파일 (access.log → access.log.1 → ... → access.log.N)
+ * - AccessLog 소비자 스레드 한 곳에서만 사용 (동기화 없음)
+ */
+final class RollingFileWriter implements AutoCloseable {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private Writer out;
+    private long written;
+
+    RollingFileWriter(Path file, long maxBytes, int maxFiles) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        open();
+    }
+
+    void write(CharSequence line) throws IOException {
+        if (written >= maxBytes) roll();
+        out.append(line);
+        written += line.length(); // 대략치 (ASCII 기준) — 롤링 판단용
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private void open() throws IOException {
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        this.written = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path src = sibling(i);
+            if (Files.exists(src)) {
+                Files.move(src, sibling(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, sibling(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private Path sibling(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,179 @@
+package com.foodieblog.common.cache;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청 합치기(single-flight) + stale-while-revalidate 캐시
+ * - fresh(ttl 이내): 그대로 반환
+ * - stale(ttl ~ ttl+stale): 이전 값을 바로 반환하고, key당 한 번만 백그라운드 갱신
+ * - miss/만료: 동시에 들어온 요청은 하나의 계산(future)을 공유 (coalesce)
+ * - 계산 실패는 캐시하지 않는다 (대기 중이던 요청에는 같은 예외 전달)
+ *
+ * key 종류가 적은 용도(통계 파라미터 조합 등)를 가정해 용량 초과 시 가장 오래된 항목을 선형 탐색으로 제거한다.
+ */
+public final class SingleFlightCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SingleFlightCache(String name, long ttlMillis, long staleMillis, int maxEntries, Executor refreshExecutor) {
+        this.name = name;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.staleNanos = staleMillis * 1_000_000L;
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Entry<V> e = entries.get(key);
+
+        if (e != null && e.isLoaded()) {
+            long age = now - e.loadedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return e.value();
+            }
+            if (age < ttlNanos + staleNanos) {
+                staleHits.increment();
+                refreshAsync(key, e, loader);
+                return e.value();
+            }
+        } else if (e != null) {
+            // 누군가 계산 중 → 합류
+            coalesced.increment();
+            return await(e);
+        }
+
+        return loadOrJoin(key, e, loader);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public Stats stats() {
+        return new Stats(name, ttlNanos / 1_000_000L, staleNanos / 1_000_000L, entries.size(),
+                hits.sum(), staleHits.sum(), misses.sum(), coalesced.sum(), refreshes.sum(), failures.sum());
+    }
+
+    private V loadOrJoin(K key, Entry<V> expired, Supplier<V> loader) {
+        Entry<V> mine = new Entry<>();
+        Entry<V> winner = (expired == null)
+                ? entries.putIfAbsent(key, mine)
+                : (entries.replace(key, expired, mine) ? null : entries.putIfAbsent(key, mine));
+
+        if (winner != null) {
+            coalesced.increment();
+            return await(winner);
+        }
+
+        misses.increment();
+        evictIfFull();
+        try {
+            V value = loader.get();
+            mine.complete(value, System.nanoTime());
+            return value;
+        } catch (RuntimeException | Error ex) {
+            failures.increment();
+            entries.remove(key, mine);
+            mine.future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private void refreshAsync(K key, Entry<V> stale, Supplier<V> loader) {
+        if (!stale.refreshing.compareAndSet(false, true)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    V value = loader.get();
+                    Entry<V> fresh = new Entry<>();
+                    fresh.complete(value, System.nanoTime());
+                    entries.replace(key, stale, fresh);
+                    refreshes.increment();
+                } catch (RuntimeException ex) {
+                    // 갱신 실패 시 stale 값을 유지하고 다음 요청에서 재시도
+                    failures.increment();
+                    stale.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    private V await(Entry<V> e) {
+        try {
+            return e.future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for " + name);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new CompletionException(cause);
+        }
+    }
+
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) return;
+
+        K oldestKey = null;
+        long oldest = 0L;
+        for (Map.Entry<K, Entry<V>> me : entries.entrySet()) {
+            Entry<V> e = me.getValue();
+            if (e.isLoaded() && (oldestKey == null || e.loadedAt - oldest < 0)) {
+                oldest = e.loadedAt;
+                oldestKey = me.getKey();
+            }
+        }
+        if (oldestKey != null) entries.remove(oldestKey);
+    }
+
+    private static final class Entry<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        volatile long loadedAt;
+
+        void complete(V value, long at) {
+            this.loadedAt = at;
+            future.complete(value);
+        }
+
+        boolean isLoaded() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+
+        V value() {
+            return future.getNow(null);
+        }
+    }
+
+    public record Stats(String name, long ttlMillis, long staleMillis, int size,
+                        long hits, long staleHits, long misses, long coalesced,
+                        long refreshes, long failures) {}
+}
@@ -0,0 +1,170 @@
+package com.foodieblog.common.concurrent;
+
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 독립적인 조회 여러 개를 동시에 실행하는 구조적 fan-out
+ *
+ * <pre>
+ * try (FanOut.Scope scope = fanOut.open()) {
+ *     FanOut.Subtask&lt;A&gt; a = scope.fork(() -&gt; repoA.find(...));
+ *     FanOut.Subtask&lt;B&gt; b = scope.fork(() -&gt; repoB.find(...));
+ *     scope.join();              // 전부 끝나거나, 하나라도 실패/데드라인 초과 시 나머지 취소
+ *     use(a.get(), b.get());
+ * }
+ * </pre>
+ *
+ * - 작업마다 별도 스레드 → 호출자 트랜잭션 밖에서 각자 커넥션을 사용 (읽기 전용 조회에만 사용)
+ * - 풀/큐가 가득 차면 호출 스레드에서 바로 실행 (포화 시에도 실패하지 않고 직렬로 퇴화)
+ * - 지표: fanout.width, fanout.inline, fanout.timeouts, fanout.pool.active/queued
+ */
+@Slf4j
+@Component
+public class FanOut {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration defaultDeadline;
+
+    private final DistributionSummary width;
+    private final Counter inline;
+    private final Counter timeouts;
+
+    public FanOut(
+            MeterRegistry meterRegistry,
+            @Value("${fanout.pool-size:4}") int poolSize,
+            @Value("${fanout.queue-capacity:32}") int queueCapacity,
+            @Value("${fanout.deadline-ms:5000}") long deadlineMillis
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "fanout-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.defaultDeadline = Duration.ofMillis(deadlineMillis);
+
+        this.width = DistributionSummary.builder("fanout.width").register(meterRegistry);
+        this.inline = Counter.builder("fanout.inline").register(meterRegistry);
+        this.timeouts = Counter.builder("fanout.timeouts").register(meterRegistry);
+        Gauge.builder("fanout.pool.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("fanout.pool.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public Scope open() {
+        return open(defaultDeadline);
+    }
+
+    public Scope open(Duration deadline) {
+        return new Scope(System.nanoTime() + deadline.toNanos());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final long deadlineNanos;
+        private final List<Subtask<?>> subtasks = new ArrayList<>();
+
+        private Scope(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> Subtask<T> fork(Callable<T> task) {
+            FutureTask<T> future = new FutureTask<>(task);
+            try {
+                executor.execute(future);
+            } catch (RejectedExecutionException e) {
+                // 포화 → 호출 스레드에서 실행
+                inline.increment();
+                future.run();
+            }
+            Subtask<T> subtask = new Subtask<>(future);
+            subtasks.add(subtask);
+            return subtask;
+        }
+
+        /**
+         * 모든 작업 완료 대기
+         * - 작업 예외는 그대로 다시 던짐 (RuntimeException이면 원형 유지)
+         * - 데드라인 초과 시 SERVICE_UNAVAILABLE
+         */
+        public void join() {
+            width.record(subtasks.size());
+            try {
+                for (Subtask<?> s : subtasks) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    s.future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                timeouts.increment();
+                cancelAll();
+                log.warn("[FANOUT] deadline exceeded width={}", subtasks.size());
+                throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                cancelAll();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException re) throw re;
+                if (cause instanceof Error err) throw err;
+                throw new CompletionException(cause);
+            }
+        }
+
+        /** join 전에 빠져나가도(예외 등) 남은 작업은 취소 */
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Subtask<?> s : subtasks) {
+                s.future.cancel(true);
+            }
+        }
+    }
+
+    public static final class Subtask<T> {
+
+        private final FutureTask<T> future;
+
+        private Subtask(FutureTask<T> future) {
+            this.future = future;
+        }
+
+        /** join() 이후에 호출 */
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("subtask not joined");
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException | CancellationException e) {
+                throw new IllegalStateException("subtask did not complete", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.foodieblog.common.concurrent;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각 기반 정리용 hashed timing wheel
+ * - schedule: 만료 tick 에 해당하는 슬롯 큐에 넣기만 함 (O(1), 락 없음)
+ * - advance: 지난 tick 의 슬롯만 훑어 만료된 key 를 콜백 → 전체 스캔 없이 정리
+ * - 한 바퀴(wheelSize * tick)보다 먼 만료는 같은 슬롯에 남아 있다가 해당 바퀴에서 처리된다.
+ *
+ * 만료 콜백은 "그 시각에 만료 예정이었던 key" 를 알려줄 뿐이므로,
+ * 그 사이 갱신/삭제되었는지는 호출 측에서 다시 확인해야 한다.
+ * advance 는 단일 스레드(스케줄러)에서 호출하는 것을 전제로 한다.
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout<K>>[] slots;
+
+    private volatile long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.slots = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    public void schedule(K key, long expiresAtMillis) {
+        // 이미 지난 시각이면 다음 tick 에 처리
+        long tick = Math.max(expiresAtMillis / tickMillis, lastTick + 1);
+        slots[(int) (tick & mask)].add(new Timeout<>(key, tick));
+    }
+
+    /** 현재 시각까지 지난 tick 들을 처리하고 만료된 key 수를 반환 */
+    public int advance(long nowMillis, Consumer<K> onExpire) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick < lastTick) return 0;
+
+        // 오래 멈췄다면 한 바퀴만 돌면 모든 슬롯을 본 것
+        long from = Math.max(lastTick, nowTick - mask);
+        int expired = 0;
+        for (long t = from; t <= nowTick; t++) {
+            Iterator<Timeout<K>> it = slots[(int) (t & mask)].iterator();
+            while (it.hasNext()) {
+                Timeout<K> timeout = it.next();
+                if (timeout.tick <= nowTick) {
+                    it.remove();
+                    onExpire.accept(timeout.key);
+                    expired++;
+                }
+            }
+        }
+        lastTick = nowTick;
+        return expired;
+    }
+
+    public int size() {
+        int n = 0;
+        for (ConcurrentLinkedQueue<Timeout<K>> slot : slots) {
+            n += slot.size();
+        }
+        return n;
+    }
+
+    private record Timeout<K>(K key, long tick) {}
+}
@@ -0,0 +1,64 @@
+package com.foodieblog.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션 → replica, 나머지 → primary
+ * - 커넥션을 잡는 시점에 트랜잭션 readOnly 여부를 봐야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 쓴다
+ *   (JpaTransactionManager 는 readOnly 플래그를 세우기 전에 커넥션을 요청함)
+ * - replica 지연이 크거나(ReplicaLagMonitor) 방금 쓴 사용자(ReadYourWrites)면 읽기도 primary
+ * - 트랜잭션 밖(JdbcTemplate 배치 등)은 primary
+ * - 지연을 허용할 수 없는 조회(사용자 상태, refresh token, denylist)는 repository 메서드에 readOnly 가 아닌 @Transactional 로 primary 고정
+ * - 지표: datasource.routing{target}
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+
+    private final Counter toPrimary;
+    private final Counter toReplica;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.toPrimary = Counter.builder("datasource.routing").tag("target", "primary").register(meterRegistry);
+        this.toReplica = Counter.builder("datasource.routing").tag("target", "replica").register(meterRegistry);
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            toPrimary.increment();
+            return Target.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.markWrite();
+            toPrimary.increment();
+            return Target.PRIMARY;
+        }
+
+        if (!lagMonitor.isUsable() || readYourWrites.isSticky()) {
+            toPrimary.increment();
+            return Target.PRIMARY;
+        }
+
+        toReplica.increment();
+        return Target.REPLICA;
+    }
+}
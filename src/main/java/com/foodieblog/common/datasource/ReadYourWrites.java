@@ -0,0 +1,69 @@
+package com.foodieblog.common.datasource;
+
+import com.foodieblog.auth.JwtAuthFilter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 sticky-ms 동안은 그 사용자의 읽기도 primary 로 (replica 에 아직 안 보이는 자기 글/댓글 방지)
+ * - 사용자 = SecurityContext 의 AuthPrincipal (비로그인 요청은 대상 아님)
+ * - 쓰기 트랜잭션이 커넥션을 잡을 때 + 트랜잭션이 끝날 때 다시 기록 → 커밋 시점부터 sticky-ms
+ * - 노드 로컬 상태: 같은 사용자의 다음 요청이 다른 인스턴스로 가면 적용 안 됨 (sticky 세션/짧은 지연 전제)
+ */
+public class ReadYourWrites {
+
+    private final long stickyMillis;
+
+    // userId → 이 시각(epoch ms)까지 primary
+    private final ConcurrentHashMap<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    /** 현재 사용자의 쓰기 기록 (트랜잭션 안이면 완료 시점에 한 번 더) */
+    public void markWrite() {
+        Long userId = currentUserId();
+        if (userId == null) return;
+
+        touch(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    touch(userId);
+                }
+            });
+        }
+    }
+
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null) return false;
+        Long until = stickyUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    private void touch(Long userId) {
+        stickyUntil.put(userId, System.currentTimeMillis() + stickyMillis);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtAuthFilter.AuthPrincipal p) {
+            return p.userId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.foodieblog.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 복제 지연 감시 — max-lag 을 넘거나 확인이 안 되면 읽기도 primary 로 (ReadWriteRoutingDataSource)
+ * - lag-query 비어 있으면 SHOW REPLICA STATUS 의 Seconds_Behind_Source (MySQL 8.0.22+)
+ * - 그 밖의 구성(heartbeat 테이블 등)은 lag-query 로 "지연 초" 한 값을 반환하는 쿼리를 지정
+ * - 결과 없음/NULL(복제 중지)/예외 → 사용 불가
+ * - 마지막 확인이 2 × check-interval 보다 오래됐으면 (확인이 멈췄거나 쿼리가 걸려 있음) 사용 불가
+ * - 확인은 전용 스레드에서 (start) — 공용 @Scheduled 스레드는 긴 배치 작업이 잡고 있을 수 있다
+ * - 지표: datasource.replica.lag (ms, 모르면 -1), datasource.replica.usable (0/1)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private final long staleAfterNanos;
+
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+    private volatile long checkedAtNanos;
+
+    private ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis, long checkIntervalMillis,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(1);
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(2 * checkIntervalMillis);
+
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMillis).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.isUsable() ? 1 : 0).register(meterRegistry);
+    }
+
+    /** 전용 데몬 스레드에서 check-interval 마다 확인 시작 */
+    public synchronized void start() {
+        if (executor != null) return;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::check, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public boolean isUsable() {
+        return usable && System.nanoTime() - checkedAtNanos <= staleAfterNanos;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public void check() {
+        long lag;
+        try {
+            lag = queryLagMillis();
+        } catch (RuntimeException e) { // 예외가 새면 ScheduledExecutorService 가 이후 실행을 멈춘다
+            if (usable) log.warn("[DB] replica lag check failed: {}", e.getMessage());
+            lag = -1;
+        }
+
+        boolean nowUsable = lag >= 0 && lag <= maxLagMillis;
+        if (nowUsable != usable) {
+            log.info("[DB] replica usable={} lagMs={} maxLagMs={}", nowUsable, lag, maxLagMillis);
+        }
+        lagMillis = lag;
+        usable = nowUsable;
+        checkedAtNanos = System.nanoTime();
+    }
+
+    private long queryLagMillis() {
+        if (lagQuery.isEmpty()) {
+            List<Long> rows = jdbcTemplate.query("SHOW REPLICA STATUS", (rs, i) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? -1L : seconds * 1000;
+            });
+            return rows.isEmpty() ? -1 : rows.get(0);
+        }
+
+        Double seconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+        return seconds == null ? -1 : Math.round(seconds * 1000);
+    }
+}
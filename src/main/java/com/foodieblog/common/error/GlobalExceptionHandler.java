@@ -1,5 +1,6 @@
 package com.foodieblog.common.error;
 
+import com.foodieblog.common.loadshed.ConcurrencyLimitFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -7,10 +8,12 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -112,6 +115,33 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(errorCode, request.getRequestURI(), null));
     }
 
+    /* =====================
+       커넥션 풀 대기 초과 (Hikari connection-timeout)
+       - 장애가 아니라 과부하 → 503 (ConcurrencyLimiter 가 backoff 신호로 사용)
+       - 트랜잭션 시작에서 나면 CannotCreateTransactionException
+       - replica 라우팅(LazyConnectionDataSourceProxy)에선 첫 쿼리에서 나므로 DataAccessException 으로 온다
+         → 원인에 SQLTransientConnectionException 이 있으면 같은 503 (handleDatabase)
+       ===================== */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handlePoolExhausted(
+            CannotCreateTransactionException ex,
+            HttpServletRequest request
+    ) {
+        return poolExhausted(ex, request);
+    }
+
+    private ResponseEntity<ErrorResponse> poolExhausted(Exception ex, HttpServletRequest request) {
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+        request.setAttribute(ConcurrencyLimitFilter.OVERLOAD_ATTR, Boolean.TRUE);
+
+        log.warn("[DB_POOL] {} {} -> {} message={}",
+                request.getMethod(), request.getRequestURI(), errorCode.getCode(), ex.getMessage());
+
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ErrorResponse.of(errorCode, request.getRequestURI(), null));
+    }
+
     /* =====================
        DB 예외
        ===================== */
@@ -120,6 +150,10 @@ public class GlobalExceptionHandler {
             DataAccessException ex,
             HttpServletRequest request
     ) {
+        if (isPoolTimeout(ex)) {
+            return poolExhausted(ex, request);
+        }
+
         ErrorCode errorCode = ErrorCode.DATABASE_ERROR;
 
         // ✅ 핵심: DB 예외는 반드시 stacktrace까지 출력
@@ -131,6 +165,13 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(errorCode, request.getRequestURI(), null));
     }
 
+    private static boolean isPoolTimeout(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof SQLTransientConnectionException) return true;
+        }
+        return false;
+    }
+
     /* =====================
        최종 fallback
        ===================== */
@@ -0,0 +1,105 @@
+package com.foodieblog.common.loadshed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodieblog.auth.JwtAuthFilter;
+import com.foodieblog.common.error.ErrorCode;
+import com.foodieblog.common.error.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 동시 처리 한도를 넘는 요청을 컨트롤러/DB 까지 가기 전에 503 으로 돌려보낸다 (ConcurrencyLimiter)
+ * - 인증/레이트리밋 다음에 둔다: 우선순위에 인증 여부가 필요하고, 레이트리밋 거절(즉시 응답)이 지연 표본에 섞이지 않게
+ * - 우선순위: 헬스체크 > 인증된 쓰기 > 그 밖의 요청 > 비로그인 GET(목록/검색)
+ * - backoff 신호는 하류 포화만: OVERLOAD_ATTR 가 붙은 요청(커넥션 풀 대기 초과)과 504
+ *   → BCrypt 해시 큐 거절 같은 503 은 그 자원만 찬 것이라 전체 limit 을 줄이지 않는다
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /** 하류(DB 커넥션 풀 등) 포화로 실패한 요청 표시 — 예외 처리기가 붙인다 */
+    public static final String OVERLOAD_ATTR = "LOADSHED_OVERLOAD";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        ConcurrencyLimiter.Priority priority = priorityOf(request);
+        if (!limiter.tryAcquire(priority)) {
+            response.setHeader("Retry-After", "1");
+            writeError(response, request.getRequestURI(), priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        boolean ignored = false;
+        try {
+            chain.doFilter(request, response);
+            int status = response.getStatus();
+            dropped = status == 504 || request.getAttribute(OVERLOAD_ATTR) != null;
+            // 표시 없는 503 (해시 큐 거절 등) 은 곧바로 끝난 거절 → 지연 표본으로도 쓰지 않음
+            ignored = !dropped && status == 503;
+        } finally {
+            if (ignored) {
+                limiter.releaseIgnored();
+            } else {
+                limiter.release(start, dropped);
+            }
+        }
+    }
+
+    static ConcurrencyLimiter.Priority priorityOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+
+        if (read && isHealthCheck(request.getRequestURI())) {
+            return ConcurrencyLimiter.Priority.CRITICAL;
+        }
+
+        boolean authenticated = request.getAttribute(JwtAuthFilter.ACCESS_TOKEN_ATTR) != null;
+        if (authenticated) {
+            return read ? ConcurrencyLimiter.Priority.NORMAL : ConcurrencyLimiter.Priority.HIGH;
+        }
+        // 비로그인 쓰기 = 로그인/refresh/가입 → 목록/검색보다는 먼저
+        return read ? ConcurrencyLimiter.Priority.LOW : ConcurrencyLimiter.Priority.NORMAL;
+    }
+
+    private static boolean isHealthCheck(String path) {
+        return path.equals("/health")
+                || path.startsWith("/health/")
+                || path.equals("/actuator/health");
+    }
+
+    private void writeError(HttpServletResponse response, String path, ConcurrencyLimiter.Priority priority)
+            throws IOException {
+        ErrorCode code = ErrorCode.SERVICE_UNAVAILABLE;
+        response.setStatus(code.getStatus().value());
+        response.setContentType("application/json;charset=UTF-8");
+
+        ErrorResponse body = ErrorResponse.of(code, path, Map.of(
+                "limit", limiter.limit(),
+                "priority", priority.name()
+        ));
+
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+}
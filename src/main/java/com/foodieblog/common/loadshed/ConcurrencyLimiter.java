@@ -0,0 +1,194 @@
+package com.foodieblog.common.loadshed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리 중(in-flight) 요청 수 상한을 지연시간으로 추정하는 적응형 동시성 제한 (gradient 방식)
+ * - window 마다 평균 지연(short) 을 기준 지연(baseline) 과 비교: short 가 tolerance 배를 넘으면 (= 줄 서기 시작, DB 등 하류가 느려짐)
+ *   limit 을 줄이고, 그 안이면 sqrt(limit) 만큼 여유를 두고 늘린다
+ * - baseline 은 관측된 최소 window 지연, 평소엔 천천히 따라 올라감 (배포/데이터 증가로 기본 지연이 변해도 적응)
+ * - 기동 직후 과부하면 baseline 이 이미 줄 선 지연으로 잡히므로 initial-limit 은 작게 시작
+ * - 하류 포화(커넥션 풀 대기 초과, 504) 또는 예외로 끝난 요청이 있으면 그 window 는 limit × backoff
+ * - limit 의 절반도 안 쓰고 있으면 (한가함) 늘리지 않음 → 한가할 때 limit 이 무한정 커지지 않게
+ * - 우선순위별로 limit 중 쓸 수 있는 몫이 다름: LOW(비로그인 목록/검색) 가 먼저 밀려나고 CRITICAL(헬스체크) 은 거절 안 함
+ * - 지표: http.concurrency.limit, http.concurrency.inflight, http.concurrency.rejected{priority}
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiter {
+
+    public enum Priority { CRITICAL, HIGH, NORMAL, LOW }
+
+    private static final double BACKOFF = 0.9;
+    private static final int BASELINE_WINDOW = 600; // baseline 이 위로 따라가는 속도 (window 수)
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final int minSamples;
+    private final double tolerance;
+    private final double smoothing;
+    private final double[] shares = new double[Priority.values().length];
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    // 현재 window 집계 (요청 스레드가 누적, window 를 닫는 스레드 하나가 비움)
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private volatile boolean windowDropped;
+
+    // closeWindow (synchronized) 안에서만 읽고 쓴다
+    private double estimate;
+    private double baselineNanos;
+
+    private final Counter[] rejected = new Counter[Priority.values().length];
+
+    public ConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${loadshed.enabled:true}") boolean enabled,
+            @Value("${loadshed.initial-limit:20}") int initialLimit,
+            @Value("${loadshed.min-limit:10}") int minLimit,
+            @Value("${loadshed.max-limit:200}") int maxLimit,
+            @Value("${loadshed.window-ms:500}") long windowMillis,
+            @Value("${loadshed.min-samples:20}") int minSamples,
+            @Value("${loadshed.tolerance:1.5}") double tolerance,
+            @Value("${loadshed.smoothing:0.2}") double smoothing,
+            @Value("${loadshed.normal-share:0.9}") double normalShare,
+            @Value("${loadshed.low-share:0.6}") double lowShare
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("loadshed.min-limit/max-limit invalid: " + minLimit + "/" + maxLimit);
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.minSamples = Math.max(1, minSamples);
+        this.tolerance = Math.max(1.0, tolerance);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.estimate = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.limit = (int) estimate;
+
+        shares[Priority.CRITICAL.ordinal()] = Double.POSITIVE_INFINITY;
+        shares[Priority.HIGH.ordinal()] = 1.0;
+        shares[Priority.NORMAL.ordinal()] = normalShare;
+        shares[Priority.LOW.ordinal()] = lowShare;
+
+        for (Priority p : Priority.values()) {
+            rejected[p.ordinal()] = Counter.builder("http.concurrency.rejected")
+                    .tag("priority", p.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("http.concurrency.limit", this, ConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", inflight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /** true 면 반드시 release 호출 (finally) */
+    public boolean tryAcquire(Priority priority) {
+        int n = inflight.incrementAndGet();
+        if (n > capacity(priority)) {
+            inflight.decrementAndGet();
+            rejected[priority.ordinal()].increment();
+            return false;
+        }
+        if (n > windowMaxInflight.get()) {
+            windowMaxInflight.accumulateAndGet(n, Math::max);
+        }
+        return true;
+    }
+
+    /**
+     * @param startNanos tryAcquire 직후의 System.nanoTime()
+     * @param dropped    하류 포화로 실패한 요청 (커넥션 풀 대기 초과/504/예외) — 지연 표본 대신 backoff 신호로 쓴다
+     */
+    public void release(long startNanos, boolean dropped) {
+        long now = System.nanoTime();
+        inflight.decrementAndGet();
+
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            rttSum.add(now - startNanos);
+            rttCount.increment();
+        }
+
+        long start = windowStart.get();
+        if (now - start >= windowNanos
+                && (windowDropped || rttCount.sum() >= minSamples)
+                && windowStart.compareAndSet(start, now)) {
+            closeWindow();
+        }
+    }
+
+    /** 자리만 반납 — 지연 표본에도 backoff 에도 넣지 않음 (하류와 무관하게 바로 끝난 거절) */
+    public void releaseIgnored() {
+        inflight.decrementAndGet();
+    }
+
+    private int capacity(Priority priority) {
+        double share = shares[priority.ordinal()];
+        if (share == Double.POSITIVE_INFINITY) return Integer.MAX_VALUE;
+        return Math.max(1, (int) (limit * share));
+    }
+
+    private synchronized void closeWindow() {
+        long count = rttCount.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int maxInflight = windowMaxInflight.getAndSet(0);
+        boolean dropped = windowDropped;
+        windowDropped = false;
+
+        double next;
+        if (dropped) {
+            next = estimate * BACKOFF;
+        } else {
+            if (count == 0) return;
+            double shortRtt = (double) sum / count;
+            if (baselineNanos == 0 || shortRtt < baselineNanos) {
+                baselineNanos = shortRtt;
+            } else {
+                baselineNanos += (shortRtt - baselineNanos) / BASELINE_WINDOW;
+            }
+
+            // 한가해서 limit 을 다 안 쓰는 중이면 늘릴 근거가 없음
+            if (maxInflight < estimate / 2) return;
+
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineNanos / shortRtt));
+            double target = estimate * gradient + Math.sqrt(estimate);
+            next = estimate * (1 - smoothing) + target * smoothing;
+        }
+
+        estimate = Math.min(maxLimit, Math.max(minLimit, next));
+        int previous = limit;
+        limit = (int) estimate;
+        if (limit != previous) {
+            log.debug("[LOADSHED] limit {} -> {} dropped={} inflightMax={}", previous, limit, dropped, maxInflight);
+        }
+    }
+}
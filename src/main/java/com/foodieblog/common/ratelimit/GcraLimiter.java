@@ -0,0 +1,87 @@
+package com.foodieblog.common.ratelimit;
+
+import com.foodieblog.common.sketch.Hashing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 레이트리미터 — 키당 상태는 long 하나
+ * - 상태 = [키 지문 16bit | TAT 48bit(µs, 기동 기준)] 을 한 슬롯에 pack → CAS 한 번으로 확인+갱신
+ * - TAT(theoretical arrival time) ≤ now 이면 버킷이 가득 찬 것과 같아서 "상태 없음"과 동일
+ *   → 그런 슬롯은 다른 키가 바로 재사용 (별도 만료/청소 스레드 없이 유휴 키가 자연히 밀려남)
+ * - 고정 크기 open addressing 테이블 (PROBE 칸 탐색), 가득 차면 가장 덜 제한된 슬롯을 덮어씀
+ * - 고정 창 카운터와 달리 창 경계에서 2배 버스트가 생기지 않는다
+ *
+ * 허용 조건: newTat = max(tat, now) + emission * cost,  newTat - now ≤ tolerance
+ *  - emission = window / limit, tolerance = window (limit 개까지 한 번에 허용)
+ */
+public final class GcraLimiter {
+
+    private static final int PROBE = 8;
+    private static final int TAT_BITS = 48;
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long originNanos = System.nanoTime();
+
+    public GcraLimiter(int capacity) {
+        int size = Integer.highestOneBit(Math.max(PROBE, capacity - 1) << 1);
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 거절 + 다시 시도까지 남은 µs
+     */
+    public long tryAcquire(long key, int cost, long emissionMicros, long toleranceMicros) {
+        long h = Hashing.mix64(key);
+        long fingerprint = (h >>> TAT_BITS) | 1L; // 0 은 빈 칸
+        int base = (int) h & mask;
+        long now = nowMicros();
+        long increment = emissionMicros * cost;
+
+        while (true) {
+            int slot = locate(base, fingerprint, now);
+            long cur = slots.get(slot);
+            long tat = (cur >>> TAT_BITS) == fingerprint ? cur & TAT_MASK : 0L;
+
+            long newTat = Math.max(tat, now) + increment;
+            if (newTat - now > toleranceMicros) {
+                return newTat - now - toleranceMicros;
+            }
+            if (slots.compareAndSet(slot, cur, (fingerprint << TAT_BITS) | (newTat & TAT_MASK))) {
+                return 0L;
+            }
+            // 경합 → 다시 읽어서 재시도
+        }
+    }
+
+    /** 내 슬롯 → 빈/유휴 슬롯 → (모두 사용 중이면) TAT 가 가장 이른 슬롯 */
+    private int locate(int base, long fingerprint, long now) {
+        int reusable = -1;
+        int oldest = base;
+        long oldestTat = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE; i++) {
+            int slot = (base + i) & mask;
+            long cur = slots.get(slot);
+            if ((cur >>> TAT_BITS) == fingerprint) return slot;
+
+            long tat = cur & TAT_MASK;
+            if (reusable < 0 && (cur == 0L || tat <= now)) reusable = slot;
+            if (tat < oldestTat) {
+                oldestTat = tat;
+                oldest = slot;
+            }
+        }
+        return reusable >= 0 ? reusable : oldest;
+    }
+
+    private long nowMicros() {
+        return (System.nanoTime() - originNanos) / 1000L;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,22 @@
+package com.foodieblog.common.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 단일 노드용 — GcraLimiter 그대로 */
+@Component
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryRateLimitStore implements RateLimitStore {
+
+    private final GcraLimiter limiter;
+
+    public MemoryRateLimitStore(@Value("${ratelimit.max-keys:1048576}") int maxKeys) {
+        this.limiter = new GcraLimiter(maxKeys);
+    }
+
+    @Override
+    public long tryAcquire(long key, int cost, RateLimitQuota quota) {
+        return limiter.tryAcquire(key, cost, quota.emissionMicros(), quota.toleranceMicros());
+    }
+}
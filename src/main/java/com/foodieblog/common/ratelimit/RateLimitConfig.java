@@ -0,0 +1,17 @@
+package com.foodieblog.common.ratelimit;
+
+import com.foodieblog.common.ttl.TtlTable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // 끝난 창의 공용 사용량 행 정리 (common/ttl/TtlJanitor)
+    @Bean
+    @ConditionalOnProperty(name = "ratelimit.store", havingValue = "shared")
+    public TtlTable rateLimitWindowsTtl() {
+        return new TtlTable("rate_limit_windows", "id", "expires_at");
+    }
+}
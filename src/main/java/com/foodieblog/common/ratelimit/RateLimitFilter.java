@@ -1,46 +1,35 @@
 package com.foodieblog.common.ratelimit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodieblog.auth.AccessTokenCache;
+import com.foodieblog.auth.JwtAuthFilter;
+import com.foodieblog.common.ClientIp;
 import com.foodieblog.common.error.ErrorCode;
 import com.foodieblog.common.error.ErrorResponse;
+import com.foodieblog.common.sketch.Hashing;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Instant;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final AntPathMatcher matcher = new AntPathMatcher();
-
-    // ✅ “인증 없는” 혹은 “공개” 엔드포인트에만 약하게 걸기 (과제 기준 가장 안전)
-    private final Set<String> limitedPaths = Set.of(
-            "/api/auth/login",
-            "/api/auth/refresh",
-            "/api/users",   // signup
-            "/health"
-    );
-
-    // 설정값
-    private final int maxRequests;
-    private final long windowSeconds;
+
+    // ✅ 적용 경로/한도/비용은 ratelimit.routes (RateLimitProperties) 에서 컴파일
+    private final RouteMatcher routes;
     private final long maxBodyBytes; // 요청 크기 제한(Content-Length 기준)
 
-    // key: ip|path -> window counter
-    private final ConcurrentHashMap<String, WindowCounter> counters = new ConcurrentHashMap<>();
+    // key: hash(ip 또는 userId, route) -> 상태는 store 구현 (memory: 로컬 GCRA / shared: 클러스터 공용)
+    private final RateLimitStore store;
 
-    public RateLimitFilter(int maxRequests, long windowSeconds, long maxBodyBytes) {
-        this.maxRequests = maxRequests;
-        this.windowSeconds = windowSeconds;
+    public RateLimitFilter(RateLimitStore store, RouteMatcher routes, long maxBodyBytes) {
+        this.store = store;
+        this.routes = routes;
         this.maxBodyBytes = maxBodyBytes;
     }
 
@@ -49,7 +38,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String path = request.getRequestURI();
-        if (!shouldLimit(path)) {
+        RoutePolicy policy = routes.match(request, path);
+        if (policy == null) {
             chain.doFilter(request, response);
             return;
         }
@@ -57,72 +47,49 @@ public class RateLimitFilter extends OncePerRequestFilter {
         // ✅ 요청 크기 제한 (Content-Length 없으면 -1이므로 통과시킴)
         long contentLength = request.getContentLengthLong();
         if (contentLength > maxBodyBytes) {
-            writeError(response, path, ErrorCode.PAYLOAD_TOO_LARGE);
+            writeError(response, path, ErrorCode.PAYLOAD_TOO_LARGE, policy);
             return;
         }
 
-        // ✅ IP 기반 레이트리밋
-        String ip = resolveClientIp(request);
-        String key = ip + "|" + path;
-
-        WindowCounter wc = counters.compute(key, (k, old) -> {
-            long now = Instant.now().getEpochSecond();
-            if (old == null || now - old.windowStartEpochSec >= windowSeconds) {
-                return new WindowCounter(now);
-            }
-            return old;
-        });
-
-        int current = wc.count.incrementAndGet();
-        if (current > maxRequests) {
-            writeError(response, path, ErrorCode.TOO_MANY_REQUESTS);
+        // ✅ IP(또는 사용자) 기반 레이트리밋 — 비싼 경로는 cost 만큼 토큰 소모
+        long key = keyOf(request, policy);
+        long retryAfterMicros = store.tryAcquire(key, policy.cost(), policy.quota());
+        if (retryAfterMicros > 0) {
+            response.setHeader("Retry-After", String.valueOf((retryAfterMicros + 999_999) / 1_000_000));
+            writeError(response, path, ErrorCode.TOO_MANY_REQUESTS, policy);
             return;
         }
 
         chain.doFilter(request, response);
     }
 
-    private boolean shouldLimit(String path) {
-        // 정확 매칭 + 확장하고 싶으면 아래 matcher 패턴으로 바꿔도 됨
-        if (limitedPaths.contains(path)) return true;
-
-        // 예: 공개 GET에도 걸고 싶으면 여기 확장
-        // if (matcher.match("/api/posts/**", path) && "GET".equals(request.getMethod())) ...
-
-        return false;
-    }
-
-    private String resolveClientIp(HttpServletRequest request) {
-        // 리버스 프록시/로드밸런서 붙을 때 대비
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            return xff.split(",")[0].trim();
+    // key=user 이고 인증된 요청이면 userId, 아니면 FNV-1a(ip) — 문자열 연결/할당 없음
+    private static long keyOf(HttpServletRequest request, RoutePolicy policy) {
+        if (policy.keyType() == RoutePolicy.KeyType.USER
+                && request.getAttribute(JwtAuthFilter.ACCESS_TOKEN_ATTR) instanceof AccessTokenCache.Entry e) {
+            return Hashing.combine(Hashing.mix64(e.principal().userId()), policy.id() * 2L + 1);
         }
-        String xri = request.getHeader("X-Real-IP");
-        if (xri != null && !xri.isBlank()) {
-            return xri.trim();
+
+        String ip = ClientIp.resolve(request);
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < ip.length(); i++) {
+            h ^= ip.charAt(i);
+            h *= 0x100000001B3L;
         }
-        return request.getRemoteAddr();
+        return Hashing.combine(h, policy.id() * 2L);
     }
 
-    private void writeError(HttpServletResponse response, String path, ErrorCode code) throws IOException {
+    private void writeError(HttpServletResponse response, String path, ErrorCode code, RoutePolicy policy)
+            throws IOException {
         response.setStatus(code.getStatus().value());
         response.setContentType("application/json;charset=UTF-8");
 
         ErrorResponse body = ErrorResponse.of(code, path, Map.of(
-                "limit", maxRequests,
-                "windowSeconds", windowSeconds
+                "limit", policy.quota().limit(),
+                "windowSeconds", policy.quota().windowMillis() / 1000,
+                "cost", policy.cost()
         ));
 
         objectMapper.writeValue(response.getWriter(), body);
     }
-
-    private static class WindowCounter {
-        final long windowStartEpochSec;
-        final AtomicInteger count = new AtomicInteger(0);
-
-        WindowCounter(long windowStartEpochSec) {
-            this.windowStartEpochSec = windowStartEpochSec;
-        }
-    }
 }
@@ -0,0 +1,48 @@
+package com.foodieblog.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ratelimit.* 설정 — routes 는 선언 순서대로 id 를 받아 RouteMatcher 로 컴파일
+ * - route 의 limit/window-seconds 를 생략하면 max-requests/window-seconds 기본값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+
+    private int maxRequests = 30;
+    private long windowSeconds = 60;
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String method;        // null → 모든 메서드
+        private String pattern;
+        private String queryParam;    // 지정 시 이 파라미터가 있을 때만 적용 (예: 검색)
+        private Integer limit;
+        private Long windowSeconds;
+        private int cost = 1;
+        private RoutePolicy.KeyType key = RoutePolicy.KeyType.IP;
+    }
+
+    public RouteMatcher compile() {
+        List<RoutePolicy> policies = new ArrayList<>();
+        for (int i = 0; i < routes.size(); i++) {
+            Route r = routes.get(i);
+            int limit = r.getLimit() != null ? r.getLimit() : maxRequests;
+            long window = r.getWindowSeconds() != null ? r.getWindowSeconds() : windowSeconds;
+            policies.add(new RoutePolicy(i + 1, r.getPattern(), r.getMethod(), r.getQueryParam(),
+                    new RateLimitQuota(limit, window * 1000L), r.getCost(), r.getKey()));
+        }
+        return new RouteMatcher(policies);
+    }
+}
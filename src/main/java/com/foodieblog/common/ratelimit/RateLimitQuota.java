@@ -0,0 +1,39 @@
+package com.foodieblog.common.ratelimit;
+
+/**
+ * window 동안 limit 토큰 (한 번에 limit 개까지 버스트 허용)
+ * - GCRA 파라미터(emission/tolerance)는 생성 시 한 번 계산해 둔다
+ */
+public final class RateLimitQuota {
+
+    private final int limit;
+    private final long windowMillis;
+    private final long emissionMicros;
+    private final long toleranceMicros;
+
+    public RateLimitQuota(int limit, long windowMillis) {
+        if (limit <= 0 || windowMillis <= 0) {
+            throw new IllegalArgumentException("limit and window must be positive");
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.toleranceMicros = windowMillis * 1000L;
+        this.emissionMicros = Math.max(1L, toleranceMicros / limit);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public long windowMillis() {
+        return windowMillis;
+    }
+
+    long emissionMicros() {
+        return emissionMicros;
+    }
+
+    long toleranceMicros() {
+        return toleranceMicros;
+    }
+}
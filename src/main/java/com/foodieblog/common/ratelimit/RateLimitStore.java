@@ -0,0 +1,15 @@
+package com.foodieblog.common.ratelimit;
+
+/**
+ * 레이트리밋 상태 저장소 (ratelimit.store)
+ * - memory (기본): 인스턴스별 GCRA — 레플리카 N 대면 실제 한도는 N 배
+ * - shared: DB 에 창(window)별 사용량을 모아 클러스터 전체 한도 적용, 요청 경로는 로컬 lease 만 사용
+ */
+public interface RateLimitStore {
+
+    /**
+     * @param key 호출 측에서 해시한 키 (ip/경로 등)
+     * @return 0 이면 허용, 양수면 거절 + 다시 시도까지 남은 µs
+     */
+    long tryAcquire(long key, int cost, RateLimitQuota quota);
+}
@@ -0,0 +1,108 @@
+package com.foodieblog.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 패턴 → RoutePolicy 세그먼트 트라이 (기동 시 한 번 컴파일)
+ * - 패턴 세그먼트: 리터럴 / "*" 또는 "{var}" (한 세그먼트) / "**" (마지막에만, 나머지 전부)
+ * - 우선순위: 리터럴 > 한 세그먼트 > "**", 같은 노드에서는 선언 순서
+ * - 조회는 URI 를 자르지 않고 regionMatches 로 비교 → 요청당 할당 없음
+ */
+public final class RouteMatcher {
+
+    private final Node root = new Node();
+
+    public RouteMatcher(List<RoutePolicy> policies) {
+        for (RoutePolicy policy : policies) {
+            add(policy);
+        }
+    }
+
+    /** 일치하는 정책, 없으면 null */
+    public RoutePolicy match(HttpServletRequest request, String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        return match(root, path, start, request);
+    }
+
+    private void add(RoutePolicy policy) {
+        String[] segments = policy.pattern().replaceAll("^/+|/+$", "").split("/");
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String seg = segments[i];
+            if (seg.isEmpty()) continue;
+            if (seg.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + policy.pattern());
+                }
+                node.rest.add(policy);
+                return;
+            }
+            if (seg.equals("*") || (seg.startsWith("{") && seg.endsWith("}"))) {
+                if (node.single == null) node.single = new Node();
+                node = node.single;
+            } else {
+                node = node.literal(seg);
+            }
+        }
+        node.terminal.add(policy);
+    }
+
+    private static RoutePolicy match(Node node, String path, int pos, HttpServletRequest request) {
+        int len = path.length();
+        if (pos >= len) {
+            RoutePolicy p = first(node.terminal, request);
+            return p != null ? p : first(node.rest, request);
+        }
+
+        int end = path.indexOf('/', pos);
+        if (end < 0) end = len;
+        int segLen = end - pos;
+        int next = end + 1;
+
+        for (int i = 0; i < node.literals.size(); i++) {
+            String lit = node.literals.get(i);
+            if (lit.length() == segLen && path.regionMatches(pos, lit, 0, segLen)) {
+                RoutePolicy p = match(node.literalChildren.get(i), path, next, request);
+                if (p != null) return p;
+            }
+        }
+        if (node.single != null && segLen > 0) {
+            RoutePolicy p = match(node.single, path, next, request);
+            if (p != null) return p;
+        }
+        return first(node.rest, request);
+    }
+
+    private static RoutePolicy first(List<RoutePolicy> candidates, HttpServletRequest request) {
+        for (int i = 0; i < candidates.size(); i++) {
+            RoutePolicy p = candidates.get(i);
+            if (p.method() != null && !p.method().equalsIgnoreCase(request.getMethod())) continue;
+            if (p.queryParam() != null) {
+                String v = request.getParameter(p.queryParam());
+                if (v == null || v.isBlank()) continue;
+            }
+            return p;
+        }
+        return null;
+    }
+
+    private static final class Node {
+        final List<String> literals = new ArrayList<>();
+        final List<Node> literalChildren = new ArrayList<>();
+        Node single;
+        final List<RoutePolicy> terminal = new ArrayList<>();
+        final List<RoutePolicy> rest = new ArrayList<>();
+
+        Node literal(String seg) {
+            int i = literals.indexOf(seg);
+            if (i >= 0) return literalChildren.get(i);
+            Node child = new Node();
+            literals.add(seg);
+            literalChildren.add(child);
+            return child;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.foodieblog.common.ratelimit;
+
+/**
+ * 경로별 레이트리밋 정책 (RateLimitProperties.Route 를 컴파일한 결과)
+ * - method/queryParam 이 null 이면 조건 없음
+ * - cost: 요청 1건이 소모하는 토큰 수 (비싼 조회일수록 크게)
+ */
+public final class RoutePolicy {
+
+    public enum KeyType { IP, USER }
+
+    private final int id;
+    private final String pattern;
+    private final String method;
+    private final String queryParam;
+    private final RateLimitQuota quota;
+    private final int cost;
+    private final KeyType keyType;
+
+    public RoutePolicy(int id, String pattern, String method, String queryParam,
+                       RateLimitQuota quota, int cost, KeyType keyType) {
+        if (cost <= 0 || cost > quota.limit()) {
+            throw new IllegalArgumentException("cost must be in 1..limit: " + pattern);
+        }
+        this.id = id;
+        this.pattern = pattern;
+        this.method = method;
+        this.queryParam = queryParam;
+        this.quota = quota;
+        this.cost = cost;
+        this.keyType = keyType;
+    }
+
+    public int id() { return id; }
+    public String pattern() { return pattern; }
+    public String method() { return method; }
+    public String queryParam() { return queryParam; }
+    public RateLimitQuota quota() { return quota; }
+    public int cost() { return cost; }
+    public KeyType keyType() { return keyType; }
+}
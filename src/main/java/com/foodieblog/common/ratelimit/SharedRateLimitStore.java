@@ -0,0 +1,245 @@
+package com.foodieblog.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클러스터 공용 레이트리밋 (ratelimit.store=shared)
+ * - 공유 저장소는 이미 모든 레플리카가 보는 DB (rate_limit_windows: 키 × 고정 창 사용량)
+ * - 요청 경로: 로컬 GCRA(노드 단위 평탄화) → 로컬 lease 한도 안에서 차감. 네트워크 왕복 없음
+ * - DB 에는 예약량이 아니라 실제 사용량만 더한다 (쓰지 않은 lease 가 다른 노드의 몫을 잡아먹지 않도록)
+ * - lease 잔여가 절반 아래로 떨어지면 백그라운드 flusher 가 모아서 한 번에 정산
+ *   (사용량 batch upsert 1회 + 창 합계 조회 1회 / flush-interval) → 남은 한도 안에서 다음 lease 지급
+ * - lease 크기 = min(lease-size, limit / nodes) → 노드당 초과 허용량은 창마다 최대 lease 1개
+ * - 창의 클러스터 한도를 다 쓰면 그 창이 끝날 때까지 로컬에서 바로 거절
+ * - 끝난 창 정리와 미보고 사용량 수집은 sweep-interval 마다 (요청 경로와 flush 주기에선 전체 순회 없음)
+ * - DB 오류 시 fail-open (로컬 GCRA 한도는 그대로 적용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "shared")
+public class SharedRateLimitStore implements RateLimitStore {
+
+    private static final String UPSERT =
+            "INSERT INTO rate_limit_windows (bucket_key, window_start, used, expires_at) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE used = used + VALUES(used)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GcraLimiter local;
+    private final int leaseSize;
+    private final int nodes;
+    private final int maxLeases;
+    private final long flushIntervalMillis;
+
+    private final ConcurrentHashMap<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Lease> pending = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+
+    private final Counter granted;
+    private final Counter denied;
+    private final Counter failures;
+    private final Timer flushTime;
+
+    public SharedRateLimitStore(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ratelimit.max-keys:1048576}") int maxKeys,
+            @Value("${ratelimit.shared.lease-size:10}") int leaseSize,
+            @Value("${ratelimit.shared.nodes:1}") int nodes,
+            @Value("${ratelimit.shared.max-leases:100000}") int maxLeases,
+            @Value("${ratelimit.shared.flush-interval-ms:20}") long flushIntervalMillis,
+            @Value("${ratelimit.shared.sweep-interval-ms:1000}") long sweepIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.local = new GcraLimiter(maxKeys);
+        this.leaseSize = leaseSize;
+        this.nodes = Math.max(1, nodes);
+        this.maxLeases = maxLeases;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.granted = Counter.builder("ratelimit.lease.tokens").tag("result", "granted").register(meterRegistry);
+        this.denied = Counter.builder("ratelimit.lease.tokens").tag("result", "denied").register(meterRegistry);
+        this.failures = Counter.builder("ratelimit.lease.failures").register(meterRegistry);
+        this.flushTime = Timer.builder("ratelimit.lease.flush").register(meterRegistry);
+        Gauge.builder("ratelimit.lease.active", leases, Map::size).register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ratelimit-lease");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long tryAcquire(long key, int cost, RateLimitQuota quota) {
+        long now = System.currentTimeMillis();
+        long window = now / quota.windowMillis() * quota.windowMillis();
+        Lease lease = leaseFor(key, window, quota, cost);
+        if (lease == null) {
+            return local.tryAcquire(key, cost, quota.emissionMicros(), quota.toleranceMicros()); // lease 표가 가득 참 → 로컬 한도만
+        }
+
+        int left = lease.ceiling - lease.consumed.addAndGet(cost);
+        if (left >= 0) {
+            // lease 거절분이 로컬 GCRA 를 깎지 않도록 lease 먼저, GCRA 거절이면 lease 환불
+            long retry = local.tryAcquire(key, cost, quota.emissionMicros(), quota.toleranceMicros());
+            if (retry > 0) {
+                lease.consumed.addAndGet(-cost);
+                return retry;
+            }
+            if (left < lease.size / 2 + 1) requestTopUp(lease);
+            return 0L;
+        }
+        lease.consumed.addAndGet(-cost);
+        if (lease.exhausted) {
+            return (window + quota.windowMillis() - now) * 1000L;
+        }
+        // 다음 lease 가 아직 안 옴 → 정산 한 주기 뒤 재시도
+        requestTopUp(lease);
+        return flushIntervalMillis * 1000L;
+    }
+
+    private Lease leaseFor(long key, long window, RateLimitQuota quota, int cost) {
+        Lease lease = leases.get(key);
+        if (lease != null && lease.window == window) return lease;
+        if (lease == null && leases.size() >= maxLeases) return null;
+
+        int size = Math.max(cost, Math.min(leaseSize, quota.limit() / nodes));
+        Lease fresh = new Lease(key, window, quota, size);
+        if (lease == null) {
+            Lease raced = leases.putIfAbsent(key, fresh);
+            return raced != null && raced.window == window ? raced : fresh;
+        }
+        return leases.replace(key, lease, fresh) ? fresh : leases.getOrDefault(key, fresh);
+    }
+
+    private void requestTopUp(Lease lease) {
+        if (lease.pending.compareAndSet(false, true)) {
+            pending.offer(lease);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("[RATELIMIT] lease flush failed: {}", e.toString());
+        }
+    }
+
+    /** 대기 중인 lease 의 실제 사용량을 창별로 묶어 보고하고 다음 lease 지급 (flusher 스레드) */
+    void flush() {
+        List<Lease> batch = new ArrayList<>();
+        for (Lease l; (l = pending.poll()) != null; ) batch.add(l);
+        if (batch.isEmpty()) return;
+
+        long start = System.nanoTime();
+        try {
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            Map<Long, List<Lease>> byWindow = new HashMap<>();
+            for (Lease l : batch) {
+                l.delta = l.consumed.get() - l.reported;
+                rows.add(new Object[]{l.key, l.window, l.delta,
+                        new Timestamp(l.window + l.quota.windowMillis())});
+                byWindow.computeIfAbsent(l.window, w -> new ArrayList<>()).add(l);
+            }
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+            for (Lease l : batch) l.reported += l.delta;
+
+            for (Map.Entry<Long, List<Lease>> e : byWindow.entrySet()) {
+                settle(e.getKey(), e.getValue());
+            }
+        } catch (RuntimeException e) {
+            // fail-open: 로컬 lease 1개 만큼 더 허용 (보고 못 한 사용량은 sweep 이 다음 flush 에 다시 태운다)
+            for (Lease l : batch) {
+                l.ceiling = l.consumed.get() + l.size;
+                l.pending.set(false);
+            }
+            throw e;
+        } finally {
+            flushTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 창 합계(모든 노드의 실제 사용량)를 보고 남은 한도 안에서 lease 지급 */
+    private void settle(long window, List<Lease> batch) {
+        String in = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Object[] args = new Object[batch.size() + 1];
+        args[0] = window;
+        for (int i = 0; i < batch.size(); i++) args[i + 1] = batch.get(i).key;
+
+        Map<Long, Long> used = new HashMap<>();
+        jdbcTemplate.query("SELECT bucket_key, used FROM rate_limit_windows WHERE window_start = ? AND bucket_key IN (" + in + ")",
+                rs -> { used.put(rs.getLong(1), rs.getLong(2)); }, args);
+
+        for (Lease l : batch) {
+            long remaining = l.quota.limit() - used.getOrDefault(l.key, 0L);
+            int grant = (int) Math.max(0, Math.min(l.size, remaining));
+            // 보고 이후 로컬에서 더 쓴 양도 새 lease 안에서 차감된다
+            l.ceiling = l.reported + grant;
+            if (remaining <= 0) l.exhausted = true;
+            granted.increment(grant);
+            denied.increment(l.size - grant);
+            l.pending.set(false);
+        }
+    }
+
+    /**
+     * 끝난 창의 lease 제거 + 아직 보고 안 된 사용량을 다음 flush 에 태움 (sweep-interval 마다)
+     * - 절반 아래로 안 떨어진 lease 도 사용량이 DB 에 반영되도록
+     */
+    void sweep() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Lease> it = leases.values().iterator(); it.hasNext(); ) {
+            Lease l = it.next();
+            if (l.window + l.quota.windowMillis() <= now) {
+                it.remove();
+            } else if (l.consumed.get() > l.reported) {
+                requestTopUp(l);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    private static final class Lease {
+        final long key;
+        final long window;
+        final RateLimitQuota quota;
+        final int size;
+        final AtomicInteger consumed = new AtomicInteger(); // 이 창에서 로컬이 쓴 토큰
+        final AtomicBoolean pending = new AtomicBoolean();
+        volatile int ceiling;   // consumed 가 여기까지 허용 (처음엔 lease 1개 선지급)
+        volatile boolean exhausted;
+        int reported;           // DB 에 더한 사용량 (flusher 스레드 전용)
+        int delta;              // flusher 스레드 전용
+
+        Lease(long key, long window, RateLimitQuota quota, int size) {
+            this.key = key;
+            this.window = window;
+            this.quota = quota;
+            this.size = size;
+            this.ceiling = size;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.foodieblog.common.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키 전용 Bloom filter (thread-safe, lock-free)
+ * - mightContain == false 이면 "확실히 없음" → DB 조회 생략 가능
+ * - 삭제는 지원하지 않는다. (false positive는 DB 확인으로 보정)
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long bitCount, int hashCount) {
+        if (bitCount <= 0 || hashCount <= 0) {
+            throw new IllegalArgumentException("bitCount and hashCount must be positive");
+        }
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, (bitCount + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = hashCount;
+    }
+
+    /** 예상 원소 수 n, 목표 오탐률 p 로 크기 결정 (m = -n ln p / (ln 2)^2, k = m/n ln 2) */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(long key) {
+        long h1 = Hashing.mix64(key);
+        long h2 = Hashing.mix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long cur = words.get(idx);
+            while ((cur & mask) == 0 && !words.compareAndSet(idx, cur, cur | mask)) {
+                cur = words.get(idx);
+            }
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = Hashing.mix64(key);
+        long h2 = Hashing.mix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+}
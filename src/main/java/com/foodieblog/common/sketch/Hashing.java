@@ -0,0 +1,19 @@
+package com.foodieblog.common.sketch;
+
+/** sketch 자료구조 공용 해시 함수 */
+public final class Hashing {
+
+    private Hashing() {}
+
+    /** splitmix64 finalizer — long 키를 고르게 섞는다 */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** 여러 long 값을 하나의 64bit 키로 결합 */
+    public static long combine(long a, long b) {
+        return mix64(a * 0x9E3779B97F4A7C15L + b);
+    }
+}
@@ -0,0 +1,173 @@
+package com.foodieblog.common.ttl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 만료 행 정리 작업 (TtlTable 빈마다)
+ * - 만료된 PK 를 batch-size 만큼 조회 → 그 PK 들만 삭제 (autocommit 한 문장 = 짧은 락)
+ * - 배치 사이 pause-ms 만큼 쉬고, 한 번 실행에 max-batches 까지만 → 나머지는 다음 실행에서
+ * - 삭제 기준 시각은 실행 시작 시각으로 고정 (실행 중 새로 만료되는 행을 쫓아가지 않음)
+ * - 실행은 전용 스레드(ttl-janitor) — 배치 사이 sleep 이 공용 @Scheduled 스레드(delta 반영, 캐시 sync 등)를 막지 않게
+ * - 여러 노드가 같은 cron 초에 깨어나도 job_leases 를 가져간 한 노드만 실행 (lease-ms 동안 다른 노드는 건너뜀)
+ * - 지표: ttl.purged{table}, ttl.batch.duration{table} (= 삭제 문장이 락을 잡은 시간)
+ */
+@Slf4j
+@Component
+public class TtlJanitor {
+
+    static final String LEASE_NAME = "ttl-janitor";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<TtlTable> tables;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatches;
+    private final long leaseMillis;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ttl-janitor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TtlJanitor(
+            JdbcTemplate jdbcTemplate,
+            List<TtlTable> tables,
+            MeterRegistry meterRegistry,
+            @Value("${ttl.janitor.batch-size:500}") int batchSize,
+            @Value("${ttl.janitor.pause-ms:100}") long pauseMillis,
+            @Value("${ttl.janitor.max-batches:200}") int maxBatches,
+            @Value("${ttl.janitor.lease-ms:300000}") long leaseMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = tables;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatches = maxBatches;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /** 스케줄러 스레드는 전용 스레드에 넘기기만 (이전 실행이 아직 돌고 있으면 이번 회차는 건너뜀) */
+    @Scheduled(cron = "${ttl.janitor.cron:0 */10 * * * *}")
+    public void scheduledPurge() {
+        if (!running.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    purgeAll();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // sleep 중이면 interrupt → 배치 루프 종료
+    }
+
+    void purgeAll() {
+        if (!tryLease()) return;
+        for (TtlTable table : tables) {
+            try {
+                purge(table);
+            } catch (RuntimeException e) {
+                log.warn("[TTL] purge failed table={}: {}", table.table(), e.toString());
+            }
+        }
+    }
+
+    /**
+     * lease_until 이 지난 lease 만 가져간다 (조건부 UPDATE 한 문장 → 노드 간 원자적)
+     * - 행이 없으면 처음 실행 → INSERT, 동시에 넣으면 PK 충돌한 쪽이 진다
+     * - 끝나도 반납하지 않음 → 같은 cron 회차에 늦게 깬 노드도 건너뜀 (lease-ms 는 cron 간격보다 짧게)
+     */
+    boolean tryLease() {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp until = Timestamp.from(now.toInstant().plusMillis(leaseMillis));
+        try {
+            int taken = jdbcTemplate.update(
+                    "UPDATE job_leases SET owner = ?, lease_until = ? WHERE name = ? AND lease_until < ?",
+                    owner, until, LEASE_NAME, now);
+            if (taken == 1) return true;
+            try {
+                jdbcTemplate.update("INSERT INTO job_leases (name, owner, lease_until) VALUES (?, ?, ?)",
+                        LEASE_NAME, owner, until);
+                return true;
+            } catch (DuplicateKeyException e) {
+                log.debug("[TTL] lease held by another node, skip");
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[TTL] lease check failed, skip: {}", e.toString());
+            return false;
+        }
+    }
+
+    /** @return 삭제한 행 수 */
+    public long purge(TtlTable table) {
+        Timestamp cutoff = Timestamp.from(Instant.now());
+        String select = "SELECT " + table.idColumn() + " FROM " + table.table()
+                + " WHERE " + table.expiryColumn() + " < ? LIMIT " + batchSize;
+
+        Counter purged = Counter.builder("ttl.purged").tag("table", table.table()).register(meterRegistry);
+        Timer lockTime = Timer.builder("ttl.batch.duration").tag("table", table.table()).register(meterRegistry);
+
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Object> ids = jdbcTemplate.queryForList(select, Object.class, cutoff);
+            if (ids.isEmpty()) break;
+
+            String delete = "DELETE FROM " + table.table() + " WHERE " + table.idColumn()
+                    + " IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+            long start = System.nanoTime();
+            int deleted = jdbcTemplate.update(delete, ids.toArray());
+            lockTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            purged.increment(deleted);
+            total += deleted;
+            if (ids.size() < batchSize) break;
+
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[TTL] purged table={} rows={}", table.table(), total);
+        }
+        return total;
+    }
+}
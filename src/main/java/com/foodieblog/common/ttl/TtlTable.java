@@ -0,0 +1,18 @@
+package com.foodieblog.common.ttl;
+
+/**
+ * TtlJanitor 정리 대상 테이블 (빈으로 등록하면 자동으로 정리된다)
+ * - idColumn: PK (배치 단위 삭제에 사용)
+ * - expiryColumn: 이 시각이 지나면 삭제 (인덱스가 있어야 함)
+ */
+public record TtlTable(String table, String idColumn, String expiryColumn) {
+
+    public TtlTable {
+        // 식별자는 SQL 에 그대로 들어가므로 단순 이름만 허용
+        for (String identifier : new String[]{table, idColumn, expiryColumn}) {
+            if (identifier == null || !identifier.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                throw new IllegalArgumentException("invalid identifier: " + identifier);
+            }
+        }
+    }
+}
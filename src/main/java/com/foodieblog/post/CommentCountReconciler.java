@@ -0,0 +1,51 @@
+package com.foodieblog.post;
+
+import com.foodieblog.comment.CommentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * posts.visible_comment_count / total_comment_count 드리프트 보정 작업
+ * - post_id 구간(chunk) 단위로 나눠서 짧은 트랜잭션으로 갱신 → 긴 락 방지
+ * - 실제 값이 다른 행만 갱신한다.
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final int chunkSize;
+
+    public CommentCountReconciler(
+            PostRepository postRepository,
+            @Value("${comment.counter.reconcile-chunk-size:1000}") int chunkSize
+    ) {
+        this.postRepository = postRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${comment.counter.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /** @return 보정된 게시글 수 */
+    public int reconcile() {
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            long to = from + chunkSize - 1;
+            repaired += postRepository.reconcileCommentCounts(from, to, CommentStatus.VISIBLE);
+        }
+
+        if (repaired > 0) {
+            log.warn("[COMMENT_COUNT] repaired drifted counters posts={}", repaired);
+        } else {
+            log.info("[COMMENT_COUNT] no drift (maxPostId={})", maxId);
+        }
+        return repaired;
+    }
+}
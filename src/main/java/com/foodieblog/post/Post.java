@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_visible_comment_count", columnList = "visible_comment_count, post_id")
+})
 public class Post {
 
     @Id
@@ -45,6 +47,17 @@ public class Post {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    /**
+     * 댓글 수 (비정규화)
+     * - 엔티티 dirty checking으로는 갱신하지 않고(updatable = false) PostRepository.addCommentCounts 로만 증감
+     * - 드리프트는 CommentCountReconciler가 주기적으로 보정
+     */
+    @Column(nullable = false, updatable = false)
+    private long visibleCommentCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    private long totalCommentCount = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
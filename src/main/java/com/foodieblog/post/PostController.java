@@ -2,6 +2,7 @@ package com.foodieblog.post;
 
 import com.foodieblog.auth.JwtAuthFilter.AuthPrincipal;
 import com.foodieblog.common.ApiResponse;
+import com.foodieblog.common.ClientIp;
 import com.foodieblog.post.dto.PostCreateRequest;
 import com.foodieblog.post.dto.PostResponse;
 import com.foodieblog.post.dto.PostUpdateRequest;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -37,6 +39,7 @@ public class PostController {
                     - 검색: keyword
                     - 필터: categoryId, status, dateFrom/dateTo
                     - 페이지네이션/정렬: page, size, sort (Spring Pageable)
+                    - 댓글 많은 순: sort=visibleCommentCount,DESC
                     
                     예) /api/posts?keyword=전북대&categoryId=1&status=PUBLISHED&page=0&size=10&sort=createdAt,DESC
                     """
@@ -106,9 +109,12 @@ public class PostController {
     @GetMapping("/{id}")
     public ApiResponse<PostResponse> detail(
             @Parameter(description = "게시글 ID", example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthPrincipal principal,
+            HttpServletRequest request
     ) {
-        return ApiResponse.ok(postService.get(id));
+        Long viewerId = (principal == null) ? null : principal.userId();
+        return ApiResponse.ok(postService.get(id, viewerId, ClientIp.resolve(request)));
     }
 
     @Operation(
@@ -1,9 +1,20 @@
 package com.foodieblog.post;
 
+import com.foodieblog.comment.CommentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,4 +27,43 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     Page<Post> findAllByCategory_Id(Long categoryId, Pageable pageable);
     Page<Post> findAllByAuthorIdAndCategory_Id(Long authorId, Long categoryId, Pageable pageable);
     Page<Post> findAllByStatus(PostStatus status, Pageable pageable);
+
+    // 게시글 수정 — 행을 먼저 잠가 카테고리 이동과 그 글의 댓글 작성/삭제가 엇갈리지 않게 (호출 측 트랜잭션에 참여)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    // 현재 카테고리 — 같은 트랜잭션에서 addCommentCounts 로 행을 갱신한 뒤 읽으면 최신 커밋 값
+    @Query("select p.id, p.category.id from Post p where p.id in :ids")
+    List<Object[]> findCategoryIds(@Param("ids") Collection<Long> ids);
+
+    // 댓글 수 증감 (delta update, 호출 측 트랜잭션에 참여)
+    @Modifying
+    @Query("""
+        update Post p
+        set p.visibleCommentCount = p.visibleCommentCount + :visibleDelta,
+            p.totalCommentCount = p.totalCommentCount + :totalDelta
+        where p.id = :postId
+    """)
+    int addCommentCounts(@Param("postId") Long postId,
+                         @Param("visibleDelta") long visibleDelta,
+                         @Param("totalDelta") long totalDelta);
+
+    // 댓글 수 드리프트 보정 (id 구간 단위, 값이 다른 행만 갱신)
+    @Modifying
+    @Transactional
+    @Query("""
+        update Post p
+        set p.visibleCommentCount = (select count(c) from Comment c where c.post.id = p.id and c.status = :visible),
+            p.totalCommentCount = (select count(c) from Comment c where c.post.id = p.id)
+        where p.id between :fromId and :toId
+          and (p.visibleCommentCount <> (select count(c) from Comment c where c.post.id = p.id and c.status = :visible)
+               or p.totalCommentCount <> (select count(c) from Comment c where c.post.id = p.id))
+    """)
+    int reconcileCommentCounts(@Param("fromId") Long fromId,
+                               @Param("toId") Long toId,
+                               @Param("visible") CommentStatus visible);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId();
 }
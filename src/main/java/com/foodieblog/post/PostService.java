@@ -7,6 +7,12 @@ import com.foodieblog.common.error.ErrorCode;
 import com.foodieblog.post.dto.PostCreateRequest;
 import com.foodieblog.post.dto.PostResponse;
 import com.foodieblog.post.dto.PostUpdateRequest;
+import com.foodieblog.reaction.ReactionService;
+import com.foodieblog.stats.DailyStatsRollup;
+import com.foodieblog.stats.live.LiveActivityMetrics;
+import com.foodieblog.stats.topk.HeavyHitters;
+import com.foodieblog.stats.uniques.UniqueVisitorTracker;
+import com.foodieblog.stats.live.LiveMetric;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,16 +28,23 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
+    private final DailyStatsRollup dailyStatsRollup;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final HeavyHitters heavyHitters;
+    private final UniqueVisitorTracker uniqueVisitorTracker;
+    private final ReactionService reactionService;
 
     @Transactional(readOnly = true)
     public Page<PostResponse> list(Pageable pageable) {
         return postRepository.findAll(pageable).map(PostResponse::from);
     }
 
+    /** 상세 조회 — 고유 방문자 sketch 갱신 (viewerId 없으면 IP 해시) */
     @Transactional(readOnly = true)
-    public PostResponse get(Long id) {
+    public PostResponse get(Long id, Long viewerId, String clientIp) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        uniqueVisitorTracker.record(id, viewerId, clientIp);
         return PostResponse.from(post);
     }
 
@@ -51,17 +64,28 @@ public class PostService {
         );
 
         Post saved = postRepository.save(post);
+        dailyStatsRollup.addPosts(saved.getCreatedAt(), category.getId(), 1);
+        heavyHitters.addPost(saved.getCreatedAt().toLocalDate(), authorId, saved.getRestaurantName(), 1);
+        liveActivityMetrics.record(LiveMetric.POSTS);
         return PostResponse.from(saved);
     }
 
     @Transactional
     public PostResponse update(Long actorUserId, Long postId, PostUpdateRequest req) {
-        Post post = postRepository.findById(postId)
+        // 첫 조회를 잠금 조회로 → 이후 댓글 집계 조회가 잠금 시점 이후를 보고, 동시 댓글 작성/삭제는 커밋까지 대기
+        Post post = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         Category category = categoryRepository.findById(req.getCategoryId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
 
+        // 카테고리가 바뀌면 게시글과 그 글의 댓글 집계를 작성 시각 그대로 새 카테고리로 옮겨준다
+        Long oldCategoryId = post.getCategory().getId();
+        if (!oldCategoryId.equals(category.getId())) {
+            dailyStatsRollup.movePost(post.getId(), post.getCreatedAt(), oldCategoryId, category.getId());
+        }
+        heavyHitters.moveRestaurant(post.getCreatedAt().toLocalDate(), post.getRestaurantName(), req.getRestaurantName());
+
         post.update(
                 req.getTitle(),
                 req.getContent(),
@@ -78,7 +102,10 @@ public class PostService {
     public void delete(Long actorUserId, Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        reactionService.deleteForPost(postId);
         postRepository.delete(post);
+        dailyStatsRollup.addPosts(post.getCreatedAt(), post.getCategory().getId(), -1);
+        heavyHitters.addPost(post.getCreatedAt().toLocalDate(), post.getAuthorId(), post.getRestaurantName(), -1);
     }
 
     @Transactional(readOnly = true)
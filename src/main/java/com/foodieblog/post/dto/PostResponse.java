@@ -26,6 +26,9 @@ public class PostResponse {
     private Long categoryId;
     private String categoryName;
 
+    private long visibleCommentCount;
+    private long totalCommentCount;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -41,6 +44,8 @@ public class PostResponse {
                 .authorId(post.getAuthorId())
                 .categoryId(post.getCategory().getId())
                 .categoryName(post.getCategory().getName())
+                .visibleCommentCount(post.getVisibleCommentCount())
+                .totalCommentCount(post.getTotalCommentCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
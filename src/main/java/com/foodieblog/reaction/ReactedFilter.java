@@ -0,0 +1,119 @@
+package com.foodieblog.reaction;
+
+import com.foodieblog.common.sketch.BloomFilter;
+import com.foodieblog.common.sketch.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "내가 이 대상에 반응했는지" 사전 확인용 Bloom filter
+ * - mightContain 이 모두 false 면 DB 조회 생략 (대부분의 조회자는 반응하지 않은 사람)
+ * - 양성이면 항상 DB 로 확인 → 오탐, 취소된 반응(Bloom 은 삭제 불가)은 DB 가 걸러 준다
+ * - 기동 시 reactions 전체로 채우고, 다른 인스턴스의 반응은 sync-interval 마다 created_at 으로 가져옴 (TokenDenylist.sync 와 같은 방식)
+ *   - 다른 인스턴스에서 막 누른 반응은 최대 sync-interval 동안 "없음"으로 보일 수 있다
+ * - 취소분이 쌓여도 비트는 줄지 않음 → 오탐률만 올라가고 재기동 때 다시 만들어진다
+ */
+@Slf4j
+@Component
+public class ReactedFilter {
+
+    private static final int LOAD_BATCH = 10_000;
+    private static final long SYNC_OVERLAP_SECONDS = 5; // 커밋 지연/노드 간 시계 차이 여유 (중복 put 은 무해)
+
+    private final ReactionRepository reactionRepository;
+    private final BloomFilter filter;
+    private final AtomicLong entries = new AtomicLong();
+    private volatile LocalDateTime syncedAt = LocalDateTime.now();
+
+    private final Counter negatives;
+    private final Counter falsePositives;
+    private final Counter confirmed;
+
+    public ReactedFilter(
+            ReactionRepository reactionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reaction.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${reaction.bloom.fpp:0.01}") double fpp
+    ) {
+        this.reactionRepository = reactionRepository;
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+
+        this.negatives = Counter.builder("reaction.bloom.checks").tag("result", "negative").register(meterRegistry);
+        this.falsePositives = Counter.builder("reaction.bloom.checks").tag("result", "false_positive").register(meterRegistry);
+        this.confirmed = Counter.builder("reaction.bloom.checks").tag("result", "confirmed").register(meterRegistry);
+        Gauge.builder("reaction.bloom.entries", entries, AtomicLong::get).register(meterRegistry);
+    }
+
+    /** 요청을 받기 전에 채워 둔다 — 적재 중 다른 인스턴스에서 생긴 반응은 첫 sync 가 가져가도록 시작 시각부터 동기화 */
+    @PostConstruct
+    public void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = reactionRepository.findKeysAfter(lastId, PageRequest.of(0, LOAD_BATCH));
+            for (Object[] r : rows) {
+                lastId = (Long) r[0];
+                put((ReactionTargetType) r[1], (Long) r[2], (Long) r[3], (ReactionType) r[4]);
+            }
+            if (rows.size() < LOAD_BATCH) break;
+        }
+        syncedAt = startedAt;
+        log.info("[REACTION] reacted filter loaded reactions={} bits={}", entries.get(), filter.bitCount());
+    }
+
+    /** 이 사용자의 반응 종류 — Bloom 음성이면 빈 목록, 양성이면 DB 확인 (호출 측 트랜잭션에 참여) */
+    public List<ReactionType> mine(ReactionTargetType targetType, Long targetId, Long userId) {
+        if (!mightContainAny(targetType, targetId, userId)) {
+            negatives.increment();
+            return List.of();
+        }
+        List<ReactionType> found = reactionRepository.findTypesByUser(targetType, targetId, userId);
+        (found.isEmpty() ? falsePositives : confirmed).increment();
+        return found;
+    }
+
+    /** 이 인스턴스에서 추가된 반응 — 다음 조회부터 바로 양성 (롤백돼도 오탐 하나일 뿐) */
+    public void put(ReactionTargetType targetType, Long targetId, Long userId, ReactionType type) {
+        filter.put(key(targetType, targetId, userId, type));
+        entries.incrementAndGet();
+    }
+
+    /** 다른 인스턴스에서 추가된 반응 가져오기 */
+    @Scheduled(fixedDelayString = "${reaction.bloom.sync-interval-ms:2000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = reactionRepository.findKeysCreatedSince(syncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        for (Object[] r : rows) {
+            put((ReactionTargetType) r[0], (Long) r[1], (Long) r[2], (ReactionType) r[3]);
+        }
+        syncedAt = now;
+        if (!rows.isEmpty()) {
+            log.debug("[REACTION] reacted filter synced rows={}", rows.size());
+        }
+    }
+
+    private boolean mightContainAny(ReactionTargetType targetType, Long targetId, Long userId) {
+        for (ReactionType t : ReactionType.values()) {
+            if (filter.mightContain(key(targetType, targetId, userId, t))) return true;
+        }
+        return false;
+    }
+
+    private static long key(ReactionTargetType targetType, Long targetId, Long userId, ReactionType type) {
+        return Hashing.combine(
+                Hashing.combine(targetType.ordinal(), targetId),
+                Hashing.combine(userId, type.ordinal())
+        );
+    }
+}
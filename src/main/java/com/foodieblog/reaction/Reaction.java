@@ -0,0 +1,44 @@
+package com.foodieblog.reaction;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 반응 (1인 1대상 1종류당 1행)
+ * - 저장/삭제는 ReactionRepository 의 insertIgnore / deleteOne 으로만 수행 (멱등)
+ */
+@Entity
+@Table(name = "reactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reactions_target_user_type",
+                columnNames = {"target_type", "target_id", "user_id", "type"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Reaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reaction_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReactionTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReactionType type;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
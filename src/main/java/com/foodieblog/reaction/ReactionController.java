@@ -0,0 +1,88 @@
+package com.foodieblog.reaction;
+
+import com.foodieblog.auth.JwtAuthFilter.AuthPrincipal;
+import com.foodieblog.common.ApiResponse;
+import com.foodieblog.reaction.dto.ReactionSummaryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@Tag(name = "Reactions", description = "게시글/댓글 반응 API (👍, 😋 …)")
+public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    /** 1) 게시글 반응 요약 (공개, 로그인 시 mine 포함) */
+    @Operation(summary = "게시글 반응 조회", description = "종류별 반응 수와, 로그인 사용자의 경우 내가 누른 반응 목록을 반환합니다.")
+    @GetMapping("/posts/{postId}/reactions")
+    public ApiResponse<ReactionSummaryResponse> postSummary(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long postId,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.summary(ReactionTargetType.POST, postId, userIdOf(principal)));
+    }
+
+    /** 2) 게시글 반응 추가 (멱등) */
+    @Operation(summary = "게시글 반응 추가 (로그인)", description = "이미 누른 반응이면 변화 없이 현재 요약을 반환합니다.")
+    @PutMapping("/posts/{postId}/reactions/{type}")
+    public ApiResponse<ReactionSummaryResponse> reactPost(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long postId,
+            @Parameter(description = "반응 종류", example = "LIKE") @PathVariable ReactionType type,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.react(ReactionTargetType.POST, postId, principal.userId(), type));
+    }
+
+    /** 3) 게시글 반응 취소 (멱등) */
+    @Operation(summary = "게시글 반응 취소 (로그인)", description = "누르지 않은 반응이면 변화 없이 현재 요약을 반환합니다.")
+    @DeleteMapping("/posts/{postId}/reactions/{type}")
+    public ApiResponse<ReactionSummaryResponse> unreactPost(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long postId,
+            @Parameter(description = "반응 종류", example = "LIKE") @PathVariable ReactionType type,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.unreact(ReactionTargetType.POST, postId, principal.userId(), type));
+    }
+
+    /** 4) 댓글 반응 요약 (공개, 로그인 시 mine 포함) */
+    @Operation(summary = "댓글 반응 조회", description = "종류별 반응 수와, 로그인 사용자의 경우 내가 누른 반응 목록을 반환합니다.")
+    @GetMapping("/comments/{commentId}/reactions")
+    public ApiResponse<ReactionSummaryResponse> commentSummary(
+            @Parameter(description = "댓글 ID", example = "100") @PathVariable Long commentId,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.summary(ReactionTargetType.COMMENT, commentId, userIdOf(principal)));
+    }
+
+    /** 5) 댓글 반응 추가 (멱등) */
+    @Operation(summary = "댓글 반응 추가 (로그인)")
+    @PutMapping("/comments/{commentId}/reactions/{type}")
+    public ApiResponse<ReactionSummaryResponse> reactComment(
+            @Parameter(description = "댓글 ID", example = "100") @PathVariable Long commentId,
+            @Parameter(description = "반응 종류", example = "YUM") @PathVariable ReactionType type,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.react(ReactionTargetType.COMMENT, commentId, principal.userId(), type));
+    }
+
+    /** 6) 댓글 반응 취소 (멱등) */
+    @Operation(summary = "댓글 반응 취소 (로그인)")
+    @DeleteMapping("/comments/{commentId}/reactions/{type}")
+    public ApiResponse<ReactionSummaryResponse> unreactComment(
+            @Parameter(description = "댓글 ID", example = "100") @PathVariable Long commentId,
+            @Parameter(description = "반응 종류", example = "YUM") @PathVariable ReactionType type,
+            @AuthenticationPrincipal AuthPrincipal principal
+    ) {
+        return ApiResponse.ok(reactionService.unreact(ReactionTargetType.COMMENT, commentId, principal.userId(), type));
+    }
+
+    private Long userIdOf(AuthPrincipal principal) {
+        return principal == null ? null : principal.userId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.foodieblog.reaction;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반응 수 샤드 카운터
+ * - (대상, 종류)마다 최대 N개의 shard 행으로 나눠서 증감 → 인기 글의 단일 행 락 경합 방지
+ * - 합계 = 같은 (대상, 종류)의 모든 shard count 합
+ */
+@Entity
+@Table(name = "reaction_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reaction_counters_shard",
+                columnNames = {"target_type", "target_id", "type", "shard"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReactionCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reaction_counter_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReactionTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReactionType type;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(nullable = false)
+    private long reactionCount;
+}
@@ -0,0 +1,53 @@
+package com.foodieblog.reaction;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionCounterRepository extends JpaRepository<ReactionCounter, Long> {
+
+    // shard 행 upsert + delta 증감
+    @Modifying
+    @Query(value = """
+        insert into reaction_counters (target_type, target_id, type, shard, reaction_count)
+        values (:targetType, :targetId, :type, :shard, :delta)
+        on duplicate key update reaction_count = reaction_count + :delta
+    """, nativeQuery = true)
+    int addToShard(@Param("targetType") String targetType,
+                   @Param("targetId") Long targetId,
+                   @Param("type") String type,
+                   @Param("shard") int shard,
+                   @Param("delta") long delta);
+
+    // 종류별 합계 (shard 합산)
+    @Query("""
+        select c.type, sum(c.reactionCount)
+        from ReactionCounter c
+        where c.targetType = :targetType and c.targetId = :targetId
+        group by c.type
+    """)
+    List<Object[]> sumByType(@Param("targetType") ReactionTargetType targetType,
+                             @Param("targetId") Long targetId);
+
+    // 대상 삭제 시 shard 행 정리
+    @Modifying
+    @Query("""
+        delete from ReactionCounter c
+        where c.targetType = :targetType and c.targetId in :targetIds
+    """)
+    int deleteByTargets(@Param("targetType") ReactionTargetType targetType,
+                        @Param("targetIds") Collection<Long> targetIds);
+
+    // 게시글 삭제 시 그 글의 댓글 카운터
+    @Modifying
+    @Query("""
+        delete from ReactionCounter c
+        where c.targetType = com.foodieblog.reaction.ReactionTargetType.COMMENT
+          and c.targetId in (select cm.commentId from Comment cm where cm.post.id = :postId)
+    """)
+    int deleteByCommentsOfPost(@Param("postId") Long postId);
+}
@@ -0,0 +1,83 @@
+package com.foodieblog.reaction;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionRepository extends JpaRepository<Reaction, Long> {
+
+    // 멱등 추가: 이미 있으면 0, 새로 들어가면 1
+    @Modifying
+    @Query(value = """
+        insert ignore into reactions (target_type, target_id, user_id, type, created_at)
+        values (:targetType, :targetId, :userId, :type, now())
+    """, nativeQuery = true)
+    int insertIgnore(@Param("targetType") String targetType,
+                     @Param("targetId") Long targetId,
+                     @Param("userId") Long userId,
+                     @Param("type") String type);
+
+    // 멱등 삭제: 없으면 0, 지워지면 1
+    @Modifying
+    @Query("""
+        delete from Reaction r
+        where r.targetType = :targetType and r.targetId = :targetId
+          and r.userId = :userId and r.type = :type
+    """)
+    int deleteOne(@Param("targetType") ReactionTargetType targetType,
+                  @Param("targetId") Long targetId,
+                  @Param("userId") Long userId,
+                  @Param("type") ReactionType type);
+
+    @Query("""
+        select r.type from Reaction r
+        where r.targetType = :targetType and r.targetId = :targetId and r.userId = :userId
+    """)
+    List<ReactionType> findTypesByUser(@Param("targetType") ReactionTargetType targetType,
+                                       @Param("targetId") Long targetId,
+                                       @Param("userId") Long userId);
+
+    // ReactedFilter 적재용 (id 커서 페이징) — readOnly 아님 → primary 고정
+    @Transactional
+    @Query("""
+        select r.id, r.targetType, r.targetId, r.userId, r.type
+        from Reaction r
+        where r.id > :lastId
+        order by r.id asc
+    """)
+    List<Object[]> findKeysAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // ReactedFilter 동기화용 — 다른 인스턴스에서 생긴 반응 (replica 지연으로 놓치지 않도록 primary 고정)
+    @Transactional
+    @Query("""
+        select r.targetType, r.targetId, r.userId, r.type
+        from Reaction r
+        where r.createdAt >= :since
+    """)
+    List<Object[]> findKeysCreatedSince(@Param("since") LocalDateTime since);
+
+    // 대상 삭제 시 정리 (유니크 인덱스 prefix: target_type, target_id)
+    @Modifying
+    @Query("""
+        delete from Reaction r
+        where r.targetType = :targetType and r.targetId in :targetIds
+    """)
+    int deleteByTargets(@Param("targetType") ReactionTargetType targetType,
+                        @Param("targetIds") Collection<Long> targetIds);
+
+    // 게시글 삭제 시 그 글의 댓글에 달린 반응
+    @Modifying
+    @Query("""
+        delete from Reaction r
+        where r.targetType = com.foodieblog.reaction.ReactionTargetType.COMMENT
+          and r.targetId in (select c.commentId from Comment c where c.post.id = :postId)
+    """)
+    int deleteByCommentsOfPost(@Param("postId") Long postId);
+}
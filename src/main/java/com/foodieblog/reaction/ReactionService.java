@@ -0,0 +1,124 @@
+package com.foodieblog.reaction;
+
+import com.foodieblog.comment.CommentRepository;
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import com.foodieblog.post.PostRepository;
+import com.foodieblog.reaction.dto.ReactionSummaryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글/댓글 반응(👍, 😋 …)
+ * - 추가/취소는 멱등 (INSERT IGNORE / DELETE 영향 행 수로 판단)
+ * - 합계는 N개 shard 행에 분산 누적 → 인기 글에서도 단일 행 경합 없음
+ * - "내가 눌렀는지"는 ReactedFilter(Bloom)로 먼저 거르고, 양성일 때만 DB 확인 (유니크 인덱스 prefix 로 한 번에 찾음)
+ * - 게시글/댓글이 지워지면 그 대상의 반응과 카운터도 같은 트랜잭션에서 삭제
+ */
+@Service
+public class ReactionService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCounterRepository reactionCounterRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReactedFilter reactedFilter;
+
+    private final int shardCount;
+
+    public ReactionService(
+            ReactionRepository reactionRepository,
+            ReactionCounterRepository reactionCounterRepository,
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            ReactedFilter reactedFilter,
+            @Value("${reaction.counter.shards:16}") int shardCount
+    ) {
+        this.reactionRepository = reactionRepository;
+        this.reactionCounterRepository = reactionCounterRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.reactedFilter = reactedFilter;
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    /** 1) 반응 추가 (이미 있으면 변화 없음) */
+    @Transactional
+    public ReactionSummaryResponse react(ReactionTargetType targetType, Long targetId, Long userId, ReactionType type) {
+        ensureTargetExists(targetType, targetId);
+
+        int inserted = reactionRepository.insertIgnore(targetType.name(), targetId, userId, type.name());
+        if (inserted > 0) {
+            reactedFilter.put(targetType, targetId, userId, type);
+            addToCounter(targetType, targetId, type, 1);
+        }
+        return buildSummary(targetType, targetId, userId);
+    }
+
+    /** 2) 반응 취소 (없으면 변화 없음) */
+    @Transactional
+    public ReactionSummaryResponse unreact(ReactionTargetType targetType, Long targetId, Long userId, ReactionType type) {
+        ensureTargetExists(targetType, targetId);
+
+        int deleted = reactionRepository.deleteOne(targetType, targetId, userId, type);
+        if (deleted > 0) {
+            addToCounter(targetType, targetId, type, -1);
+        }
+        return buildSummary(targetType, targetId, userId);
+    }
+
+    /** 3) 반응 요약 (userId == null 이면 mine은 빈 목록) */
+    @Transactional(readOnly = true)
+    public ReactionSummaryResponse summary(ReactionTargetType targetType, Long targetId, Long userId) {
+        ensureTargetExists(targetType, targetId);
+        return buildSummary(targetType, targetId, userId);
+    }
+
+    /** 4) 게시글 삭제 시 정리 — 글 자체와 그 글의 댓글에 달린 반응/카운터 (호출 측 트랜잭션에 참여) */
+    @Transactional
+    public void deleteForPost(Long postId) {
+        reactionRepository.deleteByCommentsOfPost(postId);
+        reactionCounterRepository.deleteByCommentsOfPost(postId);
+        deleteForTargets(ReactionTargetType.POST, List.of(postId));
+    }
+
+    /** 5) 대상 삭제 시 정리 (호출 측 트랜잭션에 참여) */
+    @Transactional
+    public void deleteForTargets(ReactionTargetType targetType, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) return;
+        reactionRepository.deleteByTargets(targetType, targetIds);
+        reactionCounterRepository.deleteByTargets(targetType, targetIds);
+    }
+
+    private ReactionSummaryResponse buildSummary(ReactionTargetType targetType, Long targetId, Long userId) {
+        Map<ReactionType, Long> counts = new EnumMap<>(ReactionType.class);
+        for (ReactionType t : ReactionType.values()) counts.put(t, 0L);
+        for (Object[] r : reactionCounterRepository.sumByType(targetType, targetId)) {
+            counts.put((ReactionType) r[0], ((Number) r[1]).longValue());
+        }
+        return new ReactionSummaryResponse(targetType, targetId, counts, myReactions(targetType, targetId, userId));
+    }
+
+    private List<ReactionType> myReactions(ReactionTargetType targetType, Long targetId, Long userId) {
+        if (userId == null) return List.of();
+        return reactedFilter.mine(targetType, targetId, userId);
+    }
+
+    private void addToCounter(ReactionTargetType targetType, Long targetId, ReactionType type, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        reactionCounterRepository.addToShard(targetType.name(), targetId, type.name(), shard, delta);
+    }
+
+    private void ensureTargetExists(ReactionTargetType targetType, Long targetId) {
+        if (targetType == ReactionTargetType.POST && !postRepository.existsById(targetId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (targetType == ReactionTargetType.COMMENT && !commentRepository.existsById(targetId)) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.foodieblog.reaction;
+
+public enum ReactionTargetType {
+    POST,
+    COMMENT
+}
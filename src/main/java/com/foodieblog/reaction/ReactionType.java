@@ -0,0 +1,8 @@
+package com.foodieblog.reaction;
+
+public enum ReactionType {
+    LIKE,   // 👍
+    YUM,    // 😋
+    LOVE,   // ❤️
+    WOW     // 😮
+}
@@ -0,0 +1,18 @@
+package com.foodieblog.reaction.dto;
+
+import com.foodieblog.reaction.ReactionTargetType;
+import com.foodieblog.reaction.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ReactionSummaryResponse {
+    private ReactionTargetType targetType;
+    private Long targetId;
+    private Map<ReactionType, Long> counts;
+    private List<ReactionType> mine;   // 비로그인 시 빈 목록
+}
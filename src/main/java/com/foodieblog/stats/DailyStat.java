@@ -0,0 +1,46 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자 × 카테고리 단위 집계 (rollup)
+ * - 게시글/댓글 작성·삭제 시 DailyStatsRollup 이 delta로 갱신
+ * - 과거 데이터는 StatsService.backfill 로 원본 테이블에서 재계산
+ */
+@Entity
+@Table(name = "daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_stats_date_category", columnNames = {"stat_date", "category_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_stat_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+
+    public DailyStat(LocalDate statDate, Long categoryId, long postCount, long commentCount) {
+        this.statDate = statDate;
+        this.categoryId = categoryId;
+        this.postCount = postCount;
+        this.commentCount = commentCount;
+    }
+}
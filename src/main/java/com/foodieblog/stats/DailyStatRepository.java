@@ -0,0 +1,54 @@
+package com.foodieblog.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyStatRepository extends JpaRepository<DailyStat, Long> {
+
+    // (일자, 카테고리) 행 upsert + delta 증감
+    @Modifying
+    @Query(value = """
+        insert into daily_stats (stat_date, category_id, post_count, comment_count)
+        values (:statDate, :categoryId, :postDelta, :commentDelta)
+        on duplicate key update
+            post_count = post_count + :postDelta,
+            comment_count = comment_count + :commentDelta
+    """, nativeQuery = true)
+    int addCounts(@Param("statDate") LocalDate statDate,
+                  @Param("categoryId") Long categoryId,
+                  @Param("postDelta") long postDelta,
+                  @Param("commentDelta") long commentDelta);
+
+    // 일자별 합계 (카테고리 합산) — 최대 days × 카테고리 수 행만 읽음
+    @Query("""
+        select d.statDate, sum(d.postCount), sum(d.commentCount)
+        from DailyStat d
+        where d.statDate >= :from
+        group by d.statDate
+    """)
+    List<Object[]> sumByDate(@Param("from") LocalDate from);
+
+    @Query("""
+        select d.statDate, d.postCount, d.commentCount
+        from DailyStat d
+        where d.statDate >= :from and d.categoryId = :categoryId
+    """)
+    List<Object[]> findByCategory(@Param("from") LocalDate from, @Param("categoryId") Long categoryId);
+
+    // [from, to] 구간 (일자, 카테고리, 게시글, 댓글)
+    @Query("""
+        select d.statDate, d.categoryId, d.postCount, d.commentCount
+        from DailyStat d
+        where d.statDate between :from and :to
+    """)
+    List<Object[]> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from DailyStat d where d.statDate between :from and :to")
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
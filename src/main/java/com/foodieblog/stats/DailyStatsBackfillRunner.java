@@ -0,0 +1,28 @@
+package com.foodieblog.stats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+/**
+ * 기동 시 daily_stats backfill
+ * 예) java -jar app.jar --stats.backfill.days=365
+ */
+@Configuration
+public class DailyStatsBackfillRunner {
+
+    @Bean
+    CommandLineRunner backfillDailyStats(
+            StatsService statsService,
+            @Value("${stats.backfill.days:0}") int days
+    ) {
+        return args -> {
+            if (days <= 0) return;
+            LocalDate today = LocalDate.now();
+            statsService.backfill(today.minusDays(days - 1L), today);
+        };
+    }
+}
@@ -0,0 +1,247 @@
+package com.foodieblog.stats;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 통계 rollup 갱신 담당 (hourly_stats → daily_stats → monthly_stats)
+ * - addPosts/addComments/movePost: 원본 커밋 후(afterCommit) 메모리에 (정각, 카테고리) 단위로 합산만
+ *   → 주기적으로 StatsDeltaWriter 가 한 트랜잭션에 모아 반영 (요청 트랜잭션은 통계 행 잠금을 잡지 않음)
+ *   → 반영 실패분은 다음 주기에 다시, 종료 시 남은 분 반영 (비정상 종료 시 유실분은 backfill 로 보정)
+ * - rebuildRange: 원본 테이블 GROUP BY 결과로 hourly/daily 구간을 다시 씀 (backfill)
+ * - rebuildMonths: 걸친 달을 daily 합계로 재생성 — backfill 전체에서 한 번만
+ * - 재계산은 stats_rollup_lock 배타 잠금 → 그동안 어느 인스턴스의 delta 반영도 끼어들지 않음
+ *
+ * 재계산과 아직 반영 안 된 delta 의 이중 집계 방지 (epoch 펜스)
+ * - 원본 트랜잭션은 stats_rollup_lock 을 공유 잠금으로 읽어 그 epoch 를 delta 에 붙인다
+ *   → 재계산(배타 잠금)은 이 트랜잭션이 커밋될 때까지 기다렸다가 epoch 를 올린 뒤 원본을 읽음
+ * - 그래서 epoch 가 재계산보다 작은 delta 는 그 스냅샷에 이미 들어 있다 → 그 구간이면 반영 시 버림
+ *   (다른 인스턴스에 쌓인 것, 공유 잠금 대기 중인 것, 실패 후 되돌린 것 모두 같은 규칙)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsRollup {
+
+    // 재계산 기록 보관 기간 (이보다 오래 반영 못 한 delta 는 펜스 없이 더해진다)
+    private static final Duration REBUILD_HISTORY = Duration.ofDays(1);
+
+    private final DailyStatRepository dailyStatRepository;
+    private final HourlyStatRepository hourlyStatRepository;
+    private final MonthlyStatRepository monthlyStatRepository;
+    private final StatsRepository statsRepository;
+    private final StatsRollupLockRepository statsRollupLockRepository;
+    private final StatsRebuildRepository statsRebuildRepository;
+    private final StatsDeltaWriter statsDeltaWriter;
+
+    // 마지막 반영 이후 커밋된 delta: (정각, 카테고리, epoch) -> [posts, comments] (compute/remove 로 key 단위 원자성)
+    private final ConcurrentHashMap<Cell, long[]> pending = new ConcurrentHashMap<>();
+
+    public void addPosts(LocalDateTime createdAt, Long categoryId, long delta) {
+        add(createdAt, categoryId, delta, 0);
+    }
+
+    public void addComments(LocalDateTime createdAt, Long categoryId, long delta) {
+        add(createdAt, categoryId, 0, delta);
+    }
+
+    /**
+     * 게시글 카테고리 이동 — 게시글 1건과 그 글의 댓글을 작성 정각별로 옛 카테고리에서 새 카테고리로
+     * - backfill 은 댓글을 게시글의 현재 카테고리로 집계하므로 댓글분도 같이 옮겨야 맞는다
+     * - 호출 측이 게시글 행을 잠근 뒤 호출 (그 사이 댓글 작성/삭제는 잠금 해제 후 새 카테고리를 읽음)
+     */
+    public void movePost(Long postId, LocalDateTime postCreatedAt, Long fromCategoryId, Long toCategoryId) {
+        long epoch = currentEpoch();
+        Map<Cell, long[]> deltas = new HashMap<>();
+        LocalDateTime postHour = postCreatedAt.truncatedTo(ChronoUnit.HOURS);
+        accumulate(deltas, new Cell(postHour, fromCategoryId, epoch), -1, 0);
+        accumulate(deltas, new Cell(postHour, toCategoryId, epoch), 1, 0);
+        for (Object[] r : statsRepository.countCommentsHourlyByPost(postId)) {
+            LocalDateTime hour = toHour(r[0], r[1]);
+            long n = ((Number) r[2]).longValue();
+            accumulate(deltas, new Cell(hour, fromCategoryId, epoch), 0, -n);
+            accumulate(deltas, new Cell(hour, toCategoryId, epoch), 0, n);
+        }
+        mergeAfterCommit(deltas);
+    }
+
+    private void add(LocalDateTime createdAt, Long categoryId, long postDelta, long commentDelta) {
+        Map<Cell, long[]> deltas = new HashMap<>();
+        accumulate(deltas, new Cell(createdAt.truncatedTo(ChronoUnit.HOURS), categoryId, currentEpoch()), postDelta, commentDelta);
+        mergeAfterCommit(deltas);
+    }
+
+    private long currentEpoch() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return statsRollupLockRepository.findById(StatsRollupLock.ID).map(StatsRollupLock::getEpoch).orElse(0L);
+        }
+        // 공유 잠금끼리는 서로 막지 않음 — 진행 중인 재계산이 있을 때만 그 커밋까지 대기
+        return statsRollupLockRepository.lockShared(StatsRollupLock.ID).map(StatsRollupLock::getEpoch).orElse(0L);
+    }
+
+    private void mergeAfterCommit(Map<Cell, long[]> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach((cell, d) -> merge(cell, d[0], d[1]));
+            return;
+        }
+        // 롤백된 쓰기는 집계에 넣지 않는다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deltas.forEach((cell, d) -> merge(cell, d[0], d[1]));
+            }
+        });
+    }
+
+    private static void accumulate(Map<Cell, long[]> out, Cell cell, long postDelta, long commentDelta) {
+        long[] d = out.computeIfAbsent(cell, k -> new long[2]);
+        d[0] += postDelta;
+        d[1] += commentDelta;
+    }
+
+    private void merge(Cell cell, long postDelta, long commentDelta) {
+        pending.compute(cell, (k, d) -> {
+            if (d == null) d = new long[2];
+            d[0] += postDelta;
+            d[1] += commentDelta;
+            return d;
+        });
+    }
+
+    /** 쌓인 delta 반영 — 실패하면 되돌려 놓고 다음 주기에 다시 */
+    @Scheduled(fixedDelayString = "${stats.rollup.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Cell, long[]> batch = new HashMap<>();
+        for (Cell cell : new ArrayList<>(pending.keySet())) {
+            long[] d = pending.remove(cell);
+            if (d != null) batch.put(cell, d);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            int fenced = statsDeltaWriter.apply(batch);
+            if (fenced > 0) {
+                log.debug("[STATS] rollup deltas already covered by a rebuild dropped={}", fenced);
+            }
+        } catch (RuntimeException e) {
+            batch.forEach((cell, d) -> merge(cell, d[0], d[1]));
+            log.warn("[STATS] rollup delta flush failed cells={}", batch.size(), e);
+        }
+    }
+
+    // 종료 시 남은 delta 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** [from, to] 구간 hourly/daily 재계산 (양 끝 포함) — 달 단위는 rebuildMonths */
+    @Transactional
+    public int rebuildRange(LocalDate from, LocalDate to) {
+        StatsRollupLock lock = statsRollupLockRepository.lockExclusive(StatsRollupLock.ID)
+                .orElseThrow(() -> new IllegalStateException("stats_rollup_lock row missing"));
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // 이 스냅샷에 이미 들어간 delta(더 작은 epoch)를 반영 대기열에서 걸러내도록 세대와 구간을 남긴다
+        LocalDateTime now = LocalDateTime.now();
+        statsRebuildRepository.deleteRebuiltBefore(now.minus(REBUILD_HISTORY));
+        statsRebuildRepository.save(new StatsRebuild(lock.advanceEpoch(), start, end, now));
+
+        // 원본 GROUP BY 4개는 이 트랜잭션 안에서 차례로 (같은 스냅샷, 배타 잠금을 잡은 커넥션)
+        // - FanOut 으로 나누면 각 조회가 트랜잭션 밖 다른 커넥션에서 돌아 쓰기와 다른 시점을 읽는다
+        List<Object[]> postsDaily = statsRepository.countPostsDailyByCategory(start, end);
+        List<Object[]> commentsDaily = statsRepository.countCommentsDailyByCategory(start, end);
+        List<Object[]> postsHourly = statsRepository.countPostsHourlyByCategory(start, end);
+        List<Object[]> commentsHourly = statsRepository.countCommentsHourlyByCategory(start, end);
+
+        // 1) daily: (date, categoryId) -> [posts, comments]
+        Map<List<Object>, long[]> daily = new HashMap<>();
+        for (Object[] r : postsDaily) {
+            daily.computeIfAbsent(List.of(toLocalDate(r[0]), r[1]), k -> new long[2])[0] += ((Number) r[2]).longValue();
+        }
+        for (Object[] r : commentsDaily) {
+            daily.computeIfAbsent(List.of(toLocalDate(r[0]), r[1]), k -> new long[2])[1] += ((Number) r[2]).longValue();
+        }
+
+        dailyStatRepository.deleteRange(from, to);
+        List<DailyStat> dailyRows = new ArrayList<>(daily.size());
+        daily.forEach((k, v) -> dailyRows.add(new DailyStat((LocalDate) k.get(0), (Long) k.get(1), v[0], v[1])));
+        dailyStatRepository.saveAll(dailyRows);
+
+        // 2) hourly: (hour, categoryId) -> [posts, comments]
+        Map<List<Object>, long[]> hourly = new HashMap<>();
+        for (Object[] r : postsHourly) {
+            hourly.computeIfAbsent(List.of(toHour(r[0], r[1]), r[2]), k -> new long[2])[0] += ((Number) r[3]).longValue();
+        }
+        for (Object[] r : commentsHourly) {
+            hourly.computeIfAbsent(List.of(toHour(r[0], r[1]), r[2]), k -> new long[2])[1] += ((Number) r[3]).longValue();
+        }
+
+        hourlyStatRepository.deleteRange(start, end);
+        List<HourlyStat> hourlyRows = new ArrayList<>(hourly.size());
+        hourly.forEach((k, v) -> hourlyRows.add(new HourlyStat((LocalDateTime) k.get(0), (Long) k.get(1), v[0], v[1])));
+        hourlyStatRepository.saveAll(hourlyRows);
+
+        return dailyRows.size();
+    }
+
+    /** [from, to] 가 걸친 달을 해당 월 daily 합계로 다시 만든다 (backfill 청크가 모두 끝난 뒤 한 번) */
+    @Transactional
+    public int rebuildMonths(LocalDate from, LocalDate to) {
+        statsRollupLockRepository.lockExclusive(StatsRollupLock.ID);
+
+        int months = 0;
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            monthlyStatRepository.deleteMonth(month);
+            monthlyStatRepository.rollupFromDaily(month, month.plusMonths(1).minusDays(1));
+            months++;
+        }
+        return months;
+    }
+
+    private static LocalDateTime toHour(Object date, Object hour) {
+        return toLocalDate(date).atTime(((Number) hour).intValue(), 0);
+    }
+
+    // function('date', ...) 결과 타입이 드라이버/방언마다 달라서 정규화
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate d) return d;
+        if (value instanceof Date d) return d.toLocalDate();
+        if (value instanceof LocalDateTime dt) return dt.toLocalDate();
+        return LocalDate.parse(value.toString());
+    }
+
+    /** delta 합산 단위 (정각, 카테고리, 원본 트랜잭션이 본 epoch) */
+    public record Cell(LocalDateTime hour, Long categoryId, long epoch) implements Comparable<Cell> {
+
+        private static final Comparator<Cell> ORDER =
+                Comparator.comparing(Cell::hour).thenComparing(Cell::categoryId).thenComparingLong(Cell::epoch);
+
+        @Override
+        public int compareTo(Cell other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
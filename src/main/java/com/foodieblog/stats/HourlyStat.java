@@ -0,0 +1,45 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 × 카테고리 단위 집계 (rollup 최하위 단계, stat_hour는 정각)
+ * - DailyStatsRollup 이 daily/monthly 와 함께 delta로 갱신
+ */
+@Entity
+@Table(name = "hourly_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hourly_stats_hour_category", columnNames = {"stat_hour", "category_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HourlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hourly_stat_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime statHour;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+
+    public HourlyStat(LocalDateTime statHour, Long categoryId, long postCount, long commentCount) {
+        this.statHour = statHour;
+        this.categoryId = categoryId;
+        this.postCount = postCount;
+        this.commentCount = commentCount;
+    }
+}
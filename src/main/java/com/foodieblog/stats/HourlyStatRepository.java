@@ -0,0 +1,38 @@
+package com.foodieblog.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HourlyStatRepository extends JpaRepository<HourlyStat, Long> {
+
+    // (시각, 카테고리) 행 upsert + delta 증감
+    @Modifying
+    @Query(value = """
+        insert into hourly_stats (stat_hour, category_id, post_count, comment_count)
+        values (:statHour, :categoryId, :postDelta, :commentDelta)
+        on duplicate key update
+            post_count = post_count + :postDelta,
+            comment_count = comment_count + :commentDelta
+    """, nativeQuery = true)
+    int addCounts(@Param("statHour") LocalDateTime statHour,
+                  @Param("categoryId") Long categoryId,
+                  @Param("postDelta") long postDelta,
+                  @Param("commentDelta") long commentDelta);
+
+    // [from, to) 구간 (시각, 카테고리, 게시글, 댓글)
+    @Query("""
+        select h.statHour, h.categoryId, h.postCount, h.commentCount
+        from HourlyStat h
+        where h.statHour >= :from and h.statHour < :to
+    """)
+    List<Object[]> findRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("delete from HourlyStat h where h.statHour >= :from and h.statHour < :to")
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,38 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 월 × 카테고리 단위 집계 (rollup 최상위 단계, stat_month는 매월 1일)
+ * - 긴 구간 조회 시 꽉 찬 달은 이 테이블, 양 끝 자투리만 daily_stats 에서 읽는다
+ */
+@Entity
+@Table(name = "monthly_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_stats_month_category", columnNames = {"stat_month", "category_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "monthly_stat_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate statMonth;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+}
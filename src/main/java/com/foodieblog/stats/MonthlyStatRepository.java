@@ -0,0 +1,49 @@
+package com.foodieblog.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyStatRepository extends JpaRepository<MonthlyStat, Long> {
+
+    // (월, 카테고리) 행 upsert + delta 증감
+    @Modifying
+    @Query(value = """
+        insert into monthly_stats (stat_month, category_id, post_count, comment_count)
+        values (:statMonth, :categoryId, :postDelta, :commentDelta)
+        on duplicate key update
+            post_count = post_count + :postDelta,
+            comment_count = comment_count + :commentDelta
+    """, nativeQuery = true)
+    int addCounts(@Param("statMonth") LocalDate statMonth,
+                  @Param("categoryId") Long categoryId,
+                  @Param("postDelta") long postDelta,
+                  @Param("commentDelta") long commentDelta);
+
+    // [from, to] 구간 (월, 카테고리, 게시글, 댓글) — from/to 는 매월 1일
+    @Query("""
+        select m.statMonth, m.categoryId, m.postCount, m.commentCount
+        from MonthlyStat m
+        where m.statMonth between :from and :to
+    """)
+    List<Object[]> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from MonthlyStat m where m.statMonth = :month")
+    int deleteMonth(@Param("month") LocalDate month);
+
+    // 한 달치 daily_stats 합계로 monthly_stats 재생성 (backfill 용)
+    @Modifying
+    @Query(value = """
+        insert into monthly_stats (stat_month, category_id, post_count, comment_count)
+        select :month, category_id, sum(post_count), sum(comment_count)
+        from daily_stats
+        where stat_date between :month and :monthEnd
+        group by category_id
+    """, nativeQuery = true)
+    int rollupFromDaily(@Param("month") LocalDate month, @Param("monthEnd") LocalDate monthEnd);
+}
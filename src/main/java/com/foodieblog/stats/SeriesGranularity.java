@@ -0,0 +1,68 @@
+package com.foodieblog.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/** /api/stats/series 버킷 단위 — 버킷 시작 시각(truncate)과 다음 버킷 계산 */
+public enum SeriesGranularity {
+    HOUR {
+        @Override
+        LocalDateTime truncate(LocalDateTime t) {
+            return t.truncatedTo(ChronoUnit.HOURS);
+        }
+
+        @Override
+        LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusHours(1);
+        }
+    },
+    DAY {
+        @Override
+        LocalDateTime truncate(LocalDateTime t) {
+            return t.truncatedTo(ChronoUnit.DAYS);
+        }
+
+        @Override
+        LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusDays(1);
+        }
+    },
+    // ISO 주 (월요일 시작)
+    WEEK {
+        @Override
+        LocalDateTime truncate(LocalDateTime t) {
+            return t.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        LocalDateTime truncate(LocalDateTime t) {
+            return t.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        }
+
+        @Override
+        LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusMonths(1);
+        }
+    };
+
+    abstract LocalDateTime truncate(LocalDateTime t);
+
+    abstract LocalDateTime next(LocalDateTime bucketStart);
+
+    /** 대소문자 무시, 모르는 값이면 null */
+    static SeriesGranularity parse(String value) {
+        if (value == null || value.isBlank()) return DAY;
+        for (SeriesGranularity g : values()) {
+            if (g.name().equalsIgnoreCase(value.trim())) return g;
+        }
+        return null;
+    }
+}
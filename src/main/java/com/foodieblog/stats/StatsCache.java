@@ -0,0 +1,81 @@
+package com.foodieblog.stats;
+
+import com.foodieblog.common.cache.SingleFlightCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 통계 응답 캐시 (파라미터 조합 → 응답)
+ * - 대시보드 자동 새로고침/여러 관리자 동시 조회 시 집계 쿼리를 한 번만 실행
+ * - stale 구간 갱신은 전용 스레드 2개에서 처리 (큐가 차면 다음 요청에서 재시도)
+ * - 지표: stats.cache.requests{result=hit|stale|miss|coalesced}, stats.cache.size
+ */
+@Component
+public class StatsCache {
+
+    private final SingleFlightCache<Object, Object> cache;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public StatsCache(
+            MeterRegistry meterRegistry,
+            @Value("${stats.cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${stats.cache.stale-seconds:300}") long staleSeconds,
+            @Value("${stats.cache.max-entries:256}") int maxEntries
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(64),
+                r -> {
+                    Thread t = new Thread(r, "stats-cache-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.cache = new SingleFlightCache<>("stats", ttlSeconds * 1000L, staleSeconds * 1000L, maxEntries, refreshExecutor);
+
+        bind(meterRegistry, "hit", c -> c.stats().hits());
+        bind(meterRegistry, "stale", c -> c.stats().staleHits());
+        bind(meterRegistry, "miss", c -> c.stats().misses());
+        bind(meterRegistry, "coalesced", c -> c.stats().coalesced());
+        FunctionCounter.builder("stats.cache.refreshes", cache, c -> c.stats().refreshes()).register(meterRegistry);
+        FunctionCounter.builder("stats.cache.failures", cache, c -> c.stats().failures()).register(meterRegistry);
+        Gauge.builder("stats.cache.size", cache, c -> c.stats().size()).register(meterRegistry);
+    }
+
+    /** key = 엔드포인트 이름 + (정규화된) 파라미터 */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Supplier<T> loader, Object... key) {
+        return (T) cache.get(Arrays.asList(key), (Supplier<Object>) loader);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public SingleFlightCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void bind(MeterRegistry registry, String result,
+                      ToDoubleFunction<SingleFlightCache<Object, Object>> fn) {
+        FunctionCounter.builder("stats.cache.requests", cache, fn)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -1,12 +1,20 @@
 package com.foodieblog.stats;
 
 import com.foodieblog.common.ApiResponse;
+import com.foodieblog.stats.dto.CacheStatsResponse;
 import com.foodieblog.stats.dto.DailyStatsResponse;
+import com.foodieblog.stats.dto.LiveStatsResponse;
+import com.foodieblog.stats.dto.StatsSeriesResponse;
 import com.foodieblog.stats.dto.TopAuthorResponse;
+import com.foodieblog.stats.dto.TopCommenterResponse;
+import com.foodieblog.stats.dto.TopRestaurantResponse;
+import com.foodieblog.stats.dto.UniqueVisitorsResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,8 +26,52 @@ public class StatsController {
 
     @GetMapping("/daily")
     @PreAuthorize("hasRole('ADMIN')")
-    public ApiResponse<List<DailyStatsResponse>> daily(@RequestParam(defaultValue = "14") int days) {
-        return ApiResponse.ok(statsService.daily(days));
+    public ApiResponse<List<DailyStatsResponse>> daily(
+            @RequestParam(defaultValue = "14") int days,
+            @RequestParam(required = false) Long categoryId
+    ) {
+        return ApiResponse.ok(statsService.daily(days, categoryId));
+    }
+
+    @GetMapping("/series")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<StatsSeriesResponse> series(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) String groupBy
+    ) {
+        return ApiResponse.ok(statsService.series(from, to, granularity, groupBy));
+    }
+
+    @GetMapping("/live")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<LiveStatsResponse> live(@RequestParam(defaultValue = "60m") String window) {
+        return ApiResponse.ok(statsService.live(window));
+    }
+
+    @GetMapping("/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CacheStatsResponse> cache() {
+        return ApiResponse.ok(statsService.cacheStats());
+    }
+
+    @PostMapping("/daily/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<Integer> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ApiResponse.ok(statsService.backfill(from, to));
+    }
+
+    @GetMapping("/uniques")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<UniqueVisitorsResponse> uniques(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return ApiResponse.ok(statsService.uniques(postId, days));
     }
 
     @GetMapping("/top-authors")
@@ -30,4 +82,22 @@ public class StatsController {
     ) {
         return ApiResponse.ok(statsService.topAuthors(days, limit));
     }
+
+    @GetMapping("/top-commenters")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<TopCommenterResponse>> topCommenters(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(statsService.topCommenters(days, limit));
+    }
+
+    @GetMapping("/top-restaurants")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<TopRestaurantResponse>> topRestaurants(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(statsService.topRestaurants(days, limit));
+    }
 }
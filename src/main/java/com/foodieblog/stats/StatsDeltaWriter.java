@@ -0,0 +1,73 @@
+package com.foodieblog.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DailyStatsRollup 이 모은 delta 를 한 트랜잭션으로 반영
+ * - hourly → daily → monthly 순서, 각 단계 안에서는 (시각, 카테고리) 오름차순
+ *   → 어느 인스턴스든 같은 순서로 행 잠금을 잡으므로 카테고리 이동(-1/+1)이 겹쳐도 교착 없음
+ * - 재계산과는 stats_rollup_lock 공유 잠금으로 배타
+ * - 자기 epoch 이후의 재계산 구간에 든 delta 는 그 스냅샷에 이미 집계됐으므로 버림 (DailyStatsRollup 참고)
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsDeltaWriter {
+
+    private final StatsRollupLockRepository statsRollupLockRepository;
+    private final StatsRebuildRepository statsRebuildRepository;
+    private final HourlyStatRepository hourlyStatRepository;
+    private final DailyStatRepository dailyStatRepository;
+    private final MonthlyStatRepository monthlyStatRepository;
+
+    /** (정각, 카테고리, epoch) → [posts, comments], 재계산에 이미 포함돼 버린 cell 수 반환 */
+    @Transactional
+    public int apply(Map<DailyStatsRollup.Cell, long[]> deltas) {
+        long epoch = statsRollupLockRepository.lockShared(StatsRollupLock.ID).map(StatsRollupLock::getEpoch).orElse(0L);
+
+        // 공유 잠금 아래에선 진행 중인 재계산이 없다 → 가장 오래된 delta 이후의 재계산 기록이면 충분
+        long oldest = deltas.keySet().stream().mapToLong(DailyStatsRollup.Cell::epoch).min().orElse(epoch);
+        List<StatsRebuild> rebuilds = oldest < epoch ? statsRebuildRepository.findByEpochGreaterThan(oldest) : List.of();
+
+        Map<LocalDateTime, Map<Long, long[]>> hourly = new TreeMap<>();
+        Map<LocalDate, Map<Long, long[]>> daily = new TreeMap<>();
+        Map<LocalDate, Map<Long, long[]>> monthly = new TreeMap<>();
+
+        int fenced = 0;
+        for (Map.Entry<DailyStatsRollup.Cell, long[]> e : deltas.entrySet()) {
+            DailyStatsRollup.Cell cell = e.getKey();
+            if (rebuilds.stream().anyMatch(r -> r.covers(cell))) {
+                fenced++;
+                continue;
+            }
+            LocalDateTime hour = cell.hour();
+            accumulate(hourly, hour, cell.categoryId(), e.getValue());
+            accumulate(daily, hour.toLocalDate(), cell.categoryId(), e.getValue());
+            accumulate(monthly, hour.toLocalDate().withDayOfMonth(1), cell.categoryId(), e.getValue());
+        }
+
+        hourly.forEach((hour, byCategory) -> byCategory.forEach((categoryId, d) -> {
+            if (d[0] != 0 || d[1] != 0) hourlyStatRepository.addCounts(hour, categoryId, d[0], d[1]);
+        }));
+        daily.forEach((date, byCategory) -> byCategory.forEach((categoryId, d) -> {
+            if (d[0] != 0 || d[1] != 0) dailyStatRepository.addCounts(date, categoryId, d[0], d[1]);
+        }));
+        monthly.forEach((month, byCategory) -> byCategory.forEach((categoryId, d) -> {
+            if (d[0] != 0 || d[1] != 0) monthlyStatRepository.addCounts(month, categoryId, d[0], d[1]);
+        }));
+        return fenced;
+    }
+
+    private static <K> void accumulate(Map<K, Map<Long, long[]>> out, K key, Long categoryId, long[] d) {
+        long[] sum = out.computeIfAbsent(key, k -> new TreeMap<>()).computeIfAbsent(categoryId, k -> new long[2]);
+        sum[0] += d[0];
+        sum[1] += d[1];
+    }
+}
@@ -0,0 +1,46 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재계산(rebuildRange) 기록 — 그 epoch 의 스냅샷이 [rangeStart, rangeEnd) 를 다시 썼다
+ * - StatsDeltaWriter 가 epoch 가 더 작은 delta 중 이 구간에 든 것을 버린다 (이중 집계 방지)
+ */
+@Entity
+@Table(name = "stats_rebuilds")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatsRebuild {
+
+    @Id
+    @Column(name = "epoch")
+    private Long epoch;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeStart;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(nullable = false)
+    private LocalDateTime rebuiltAt;
+
+    public StatsRebuild(long epoch, LocalDateTime rangeStart, LocalDateTime rangeEnd, LocalDateTime rebuiltAt) {
+        this.epoch = epoch;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.rebuiltAt = rebuiltAt;
+    }
+
+    /** epoch 가 이 재계산보다 앞선 delta 가 이 구간의 시각이면 이미 재계산에 포함됨 */
+    public boolean covers(DailyStatsRollup.Cell cell) {
+        return cell.epoch() < epoch
+                && !cell.hour().isBefore(rangeStart)
+                && cell.hour().isBefore(rangeEnd);
+    }
+}
@@ -0,0 +1,18 @@
+package com.foodieblog.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StatsRebuildRepository extends JpaRepository<StatsRebuild, Long> {
+
+    List<StatsRebuild> findByEpochGreaterThan(long epoch);
+
+    @Modifying
+    @Query("delete from StatsRebuild r where r.rebuiltAt < :before")
+    int deleteRebuiltBefore(@Param("before") LocalDateTime before);
+}
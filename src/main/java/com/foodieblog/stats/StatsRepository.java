@@ -1,7 +1,5 @@
 package com.foodieblog.stats;
 
-import com.foodieblog.stats.dto.TopAuthorResponse;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
@@ -11,24 +9,77 @@ import java.util.List;
 
 public interface StatsRepository extends Repository<com.foodieblog.post.Post, Long> {
 
-    // 일자별 게시글 수
+    // 일자 × 카테고리별 게시글 수 (daily_stats backfill 용)
     @Query("""
-        select function('date', p.createdAt) as d, count(p)
+        select function('date', p.createdAt) as d, p.category.id, count(p)
+        from Post p
+        where p.createdAt >= :from and p.createdAt < :to
+        group by function('date', p.createdAt), p.category.id
+    """)
+    List<Object[]> countPostsDailyByCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 일자 × 카테고리별 댓글 수 (daily_stats backfill 용)
+    @Query("""
+        select function('date', c.createdAt) as d, p.category.id, count(c)
+        from Comment c
+        join c.post p
+        where c.createdAt >= :from and c.createdAt < :to
+        group by function('date', c.createdAt), p.category.id
+    """)
+    List<Object[]> countCommentsDailyByCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 일자 × 시 × 카테고리별 게시글 수 (hourly_stats backfill 용)
+    @Query("""
+        select function('date', p.createdAt) as d, extract(hour from p.createdAt) as h, p.category.id, count(p)
+        from Post p
+        where p.createdAt >= :from and p.createdAt < :to
+        group by function('date', p.createdAt), extract(hour from p.createdAt), p.category.id
+    """)
+    List<Object[]> countPostsHourlyByCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 일자 × 시 × 카테고리별 댓글 수 (hourly_stats backfill 용)
+    @Query("""
+        select function('date', c.createdAt) as d, extract(hour from c.createdAt) as h, p.category.id, count(c)
+        from Comment c
+        join c.post p
+        where c.createdAt >= :from and c.createdAt < :to
+        group by function('date', c.createdAt), extract(hour from c.createdAt), p.category.id
+    """)
+    List<Object[]> countCommentsHourlyByCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 게시글 하나의 일자 × 시별 댓글 수 (카테고리 이동 시 댓글 집계를 옮기는 용도, (post_id, created_at) 인덱스)
+    @Query("""
+        select function('date', c.createdAt) as d, extract(hour from c.createdAt) as h, count(c)
+        from Comment c
+        where c.post.id = :postId
+        group by function('date', c.createdAt), extract(hour from c.createdAt)
+    """)
+    List<Object[]> countCommentsHourlyByPost(@Param("postId") Long postId);
+
+    // 일자 × 작성자별 게시글 수 (heavy-hitters warmup 용)
+    @Query("""
+        select function('date', p.createdAt) as d, p.authorId, count(p)
         from Post p
         where p.createdAt >= :from
-        group by function('date', p.createdAt)
-        order by d asc
+        group by function('date', p.createdAt), p.authorId
+    """)
+    List<Object[]> countPostsDailyByAuthor(@Param("from") LocalDateTime from);
+
+    // 일자 × 작성자별 댓글 수 (heavy-hitters warmup 용)
+    @Query("""
+        select function('date', c.createdAt) as d, c.author.userId, count(c)
+        from Comment c
+        where c.createdAt >= :from
+        group by function('date', c.createdAt), c.author.userId
     """)
-    List<Object[]> countPostsDaily(@Param("from") LocalDateTime from);
+    List<Object[]> countCommentsDailyByAuthor(@Param("from") LocalDateTime from);
 
-    // Top authors (최근 N일)
+    // 일자 × 식당별 게시글 수 (heavy-hitters warmup 용)
     @Query("""
-        select new com.foodieblog.stats.dto.TopAuthorResponse(u.userId, u.nickname, count(p))
+        select function('date', p.createdAt) as d, p.restaurantName, count(p)
         from Post p
-        join User u on u.userId = p.authorId
         where p.createdAt >= :from
-        group by u.userId, u.nickname
-        order by count(p) desc
+        group by function('date', p.createdAt), p.restaurantName
     """)
-    List<TopAuthorResponse> topAuthors(@Param("from") LocalDateTime from, Pageable pageable);
+    List<Object[]> countPostsDailyByRestaurant(@Param("from") LocalDateTime from);
 }
@@ -0,0 +1,33 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * rollup 쓰기 잠금 행 (1행, V16 에서 생성)
+ * - delta 반영(StatsDeltaWriter)은 공유 잠금 → 인스턴스끼리는 서로 막지 않음
+ * - 재계산(DailyStatsRollup.rebuild*)은 배타 잠금 → 그동안 delta 반영은 대기
+ * - epoch: 구간 재계산마다 1씩 증가 (V18) — 원본 트랜잭션이 공유 잠금으로 읽어 delta 에 붙인다
+ */
+@Entity
+@Table(name = "stats_rollup_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatsRollupLock {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "lock_id")
+    private Integer id;
+
+    @Column(nullable = false)
+    private long epoch;
+
+    /** 배타 잠금을 잡은 재계산만 호출 */
+    public long advanceEpoch() {
+        return ++epoch;
+    }
+}
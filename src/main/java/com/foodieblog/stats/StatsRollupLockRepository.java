@@ -0,0 +1,21 @@
+package com.foodieblog.stats;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+// 호출 측 쓰기 트랜잭션에 참여해서 커밋/롤백까지 잠금 유지
+public interface StatsRollupLockRepository extends JpaRepository<StatsRollupLock, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select l from StatsRollupLock l where l.id = :id")
+    Optional<StatsRollupLock> lockShared(@Param("id") Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from StatsRollupLock l where l.id = :id")
+    Optional<StatsRollupLock> lockExclusive(@Param("id") Integer id);
+}
@@ -1,46 +1,76 @@
 package com.foodieblog.stats;
 
-import com.foodieblog.comment.CommentRepository;
+import com.foodieblog.common.concurrent.FanOut;
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import com.foodieblog.common.sketch.HyperLogLog;
+import com.foodieblog.stats.dto.CacheStatsResponse;
 import com.foodieblog.stats.dto.DailyStatsResponse;
+import com.foodieblog.stats.dto.DailyUniqueVisitorsResponse;
+import com.foodieblog.stats.dto.LiveStatsResponse;
+import com.foodieblog.stats.dto.StatsSeriesGroupResponse;
+import com.foodieblog.stats.dto.StatsSeriesResponse;
 import com.foodieblog.stats.dto.TopAuthorResponse;
+import com.foodieblog.stats.dto.TopCommenterResponse;
+import com.foodieblog.stats.dto.TopRestaurantResponse;
+import com.foodieblog.stats.dto.UniqueVisitorsResponse;
+import com.foodieblog.stats.live.LiveActivityMetrics;
+import com.foodieblog.stats.live.LiveMetric;
+import com.foodieblog.stats.topk.HeavyHitters;
+import com.foodieblog.stats.topk.SpaceSaving;
+import com.foodieblog.stats.uniques.UniqueVisitorTracker;
+import com.foodieblog.user.User;
+import com.foodieblog.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatsService {
 
-    private final StatsRepository statsRepository;
-    private final CommentRepository commentRepository;
+    private static final int BACKFILL_CHUNK_DAYS = 7;
+    private static final int SERIES_MAX_POINTS = 2000;
 
-    @Transactional(readOnly = true)
-    public List<DailyStatsResponse> daily(int days) {
+    private final DailyStatRepository dailyStatRepository;
+    private final HourlyStatRepository hourlyStatRepository;
+    private final MonthlyStatRepository monthlyStatRepository;
+    private final DailyStatsRollup dailyStatsRollup;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final HeavyHitters heavyHitters;
+    private final UserRepository userRepository;
+    private final UniqueVisitorTracker uniqueVisitorTracker;
+    private final StatsCache statsCache;
+    private final FanOut fanOut;
+
+    /** 일자별 통계 — daily_stats rollup만 읽음 (원본 테이블 스캔 없음) */
+    public List<DailyStatsResponse> daily(int days, Long categoryId) {
         if (days <= 0) days = 7;
         if (days > 90) days = 90; // 과도한 조회 방지
 
-        LocalDateTime from = LocalDate.now().minusDays(days - 1L).atStartOfDay();
+        int d = days;
+        return statsCache.get(() -> loadDaily(d, categoryId), "daily", days, categoryId);
+    }
 
-        List<Object[]> postRows = statsRepository.countPostsDaily(from);
-        List<Object[]> commentRows = commentRepository.countCommentsDaily(from);
+    private List<DailyStatsResponse> loadDaily(int days, Long categoryId) {
+        LocalDate from = LocalDate.now().minusDays(days - 1L);
 
-        Map<LocalDate, Long> postMap = new HashMap<>();
-        for (Object[] r : postRows) {
-            LocalDate d = (LocalDate) r[0];
-            Long cnt = (Long) r[1];
-            postMap.put(d, cnt);
-        }
+        List<Object[]> rows = (categoryId == null)
+                ? dailyStatRepository.sumByDate(from)
+                : dailyStatRepository.findByCategory(from, categoryId);
 
+        Map<LocalDate, Long> postMap = new HashMap<>();
         Map<LocalDate, Long> commentMap = new HashMap<>();
-        for (Object[] r : commentRows) {
+        for (Object[] r : rows) {
             LocalDate d = (LocalDate) r[0];
-            Long cnt = (Long) r[1];
-            commentMap.put(d, cnt);
+            postMap.put(d, ((Number) r[1]).longValue());
+            commentMap.put(d, ((Number) r[2]).longValue());
         }
 
         List<DailyStatsResponse> out = new ArrayList<>();
@@ -55,14 +85,267 @@ public class StatsService {
         return out;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 임의 구간 × 단위(hour/day/week/month) 시계열, groupBy=category 면 카테고리별
+     * - 구간을 가장 적은 rollup 버킷 조합으로 읽는다
+     *   hour → hourly_stats / day·week → daily_stats / month → 꽉 찬 달은 monthly_stats + 양 끝 자투리 daily_stats
+     */
+    public StatsSeriesResponse series(LocalDate from, LocalDate to, String granularity, String groupBy) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+        }
+        SeriesGranularity g = SeriesGranularity.parse(granularity);
+        if (g == null) throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+
+        boolean byCategory;
+        if (groupBy == null || groupBy.isBlank() || "none".equalsIgnoreCase(groupBy)) byCategory = false;
+        else if ("category".equalsIgnoreCase(groupBy)) byCategory = true;
+        else throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+
+        return statsCache.get(() -> loadSeries(from, to, g, byCategory), "series", from, to, g, byCategory);
+    }
+
+    private StatsSeriesResponse loadSeries(LocalDate from, LocalDate to, SeriesGranularity g, boolean byCategory) {
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<LocalDateTime> starts = new ArrayList<>();
+        Map<LocalDateTime, Integer> index = new HashMap<>();
+        for (LocalDateTime t = g.truncate(from.atStartOfDay()); t.isBefore(end); t = g.next(t)) {
+            if (starts.size() >= SERIES_MAX_POINTS) {
+                throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM); // 과도한 조회 방지
+            }
+            index.put(t, starts.size());
+            starts.add(t);
+        }
+
+        int n = starts.size();
+        // categoryId(전체 합계면 null) -> [posts[], comments[]]
+        Map<Long, long[][]> groups = byCategory ? new TreeMap<>() : new HashMap<>();
+        if (!byCategory) groups.put(null, new long[2][n]);
+
+        for (Object[] r : seriesRows(from, to, g)) {
+            LocalDateTime t = (r[0] instanceof LocalDate d) ? d.atStartOfDay() : (LocalDateTime) r[0];
+            Integer i = index.get(g.truncate(t));
+            if (i == null) continue;
+
+            long[][] cols = groups.computeIfAbsent(byCategory ? (Long) r[1] : null, k -> new long[2][n]);
+            cols[0][i] += ((Number) r[2]).longValue();
+            cols[1][i] += ((Number) r[3]).longValue();
+        }
+
+        List<StatsSeriesGroupResponse> out = new ArrayList<>(groups.size());
+        groups.forEach((categoryId, cols) -> out.add(new StatsSeriesGroupResponse(categoryId, cols[0], cols[1])));
+        return new StatsSeriesResponse(g.name().toLowerCase(), byCategory ? "category" : "none", starts, out);
+    }
+
+    // (시각/일자/월, categoryId, posts, comments) 행 목록
+    private List<Object[]> seriesRows(LocalDate from, LocalDate to, SeriesGranularity g) {
+        if (g == SeriesGranularity.HOUR) {
+            return hourlyStatRepository.findRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        }
+        if (g != SeriesGranularity.MONTH) {
+            return dailyStatRepository.findRange(from, to);
+        }
+
+        // 꽉 찬 달: [firstFull, lastFullEnd]
+        LocalDate firstFull = (from.getDayOfMonth() == 1) ? from : from.withDayOfMonth(1).plusMonths(1);
+        LocalDate lastFullEnd = (to.plusDays(1).getDayOfMonth() == 1) ? to : to.withDayOfMonth(1).minusDays(1);
+        if (firstFull.isAfter(lastFullEnd)) {
+            return dailyStatRepository.findRange(from, to);
+        }
+
+        // 월 합계 + 양 끝 자투리는 서로 독립 → 동시에 조회
+        try (FanOut.Scope scope = fanOut.open()) {
+            FanOut.Subtask<List<Object[]>> months = scope.fork(
+                    () -> monthlyStatRepository.findRange(firstFull, lastFullEnd.withDayOfMonth(1)));
+            FanOut.Subtask<List<Object[]>> head = from.isBefore(firstFull)
+                    ? scope.fork(() -> dailyStatRepository.findRange(from, firstFull.minusDays(1)))
+                    : null;
+            FanOut.Subtask<List<Object[]>> tail = to.isAfter(lastFullEnd)
+                    ? scope.fork(() -> dailyStatRepository.findRange(lastFullEnd.plusDays(1), to))
+                    : null;
+            scope.join();
+
+            List<Object[]> rows = new ArrayList<>(months.get());
+            if (head != null) rows.addAll(head.get());
+            if (tail != null) rows.addAll(tail.get());
+            return rows;
+        }
+    }
+
+    /**
+     * 실시간 분 단위 지표 (메모리 링 버퍼, DB 접근 없음)
+     * window 예) "60m", "2h", "30" (단위 생략 시 분)
+     */
+    public LiveStatsResponse live(String window) {
+        int minutes = parseWindowMinutes(window);
+        if (minutes > liveActivityMetrics.capacityMinutes()) minutes = liveActivityMetrics.capacityMinutes();
+
+        long end = liveActivityMetrics.currentMinute();
+        Map<String, long[]> series = new LinkedHashMap<>();
+        for (LiveMetric m : LiveMetric.values()) {
+            series.put(m.name(), liveActivityMetrics.series(m, end, minutes));
+        }
+
+        Instant startAt = Instant.ofEpochSecond((end - minutes + 1) * 60L);
+        return new LiveStatsResponse(startAt, 60, minutes, series);
+    }
+
+    private int parseWindowMinutes(String window) {
+        if (window == null || window.isBlank()) return 60;
+        String w = window.trim().toLowerCase();
+        int unit = 1;
+        if (w.endsWith("m")) {
+            w = w.substring(0, w.length() - 1);
+        } else if (w.endsWith("h")) {
+            w = w.substring(0, w.length() - 1);
+            unit = 60;
+        }
+        try {
+            int minutes = Integer.parseInt(w) * unit;
+            if (minutes <= 0) throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+            return minutes;
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+        }
+    }
+
+    /**
+     * ADMIN: daily_stats 재계산 (과거 이력 backfill / 드리프트 보정)
+     * - 7일 단위로 나눠 각 구간을 별도 트랜잭션으로 처리, 걸친 달(monthly)은 마지막에 한 번만 재생성
+     * - 아직 반영 안 된 delta(모든 인스턴스)는 epoch 펜스로 재계산분과 겹치지 않음 (DailyStatsRollup 참고)
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM);
+        }
+
+        int rows = 0;
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(BACKFILL_CHUNK_DAYS)) {
+            LocalDate end = start.plusDays(BACKFILL_CHUNK_DAYS - 1L);
+            if (end.isAfter(to)) end = to;
+            rows += dailyStatsRollup.rebuildRange(start, end);
+        }
+        dailyStatsRollup.rebuildMonths(from, to);
+
+        statsCache.invalidateAll();
+        log.info("[STATS] daily_stats backfill from={} to={} rows={}", from, to, rows);
+        return rows;
+    }
+
+    /**
+     * 고유 방문자 수 — 일자별 HLL sketch를 조회 시점에 merge
+     * postId == null 이면 사이트 전체
+     */
+    public UniqueVisitorsResponse uniques(Long postId, int days) {
+        if (days <= 0) days = 7;
+        if (days > 90) days = 90;
+
+        int d = days;
+        return statsCache.get(() -> loadUniques(postId, d), "uniques", postId, days);
+    }
+
+    private UniqueVisitorsResponse loadUniques(Long postId, int days) {
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        Map<LocalDate, HyperLogLog> sketches = uniqueVisitorTracker.load(
+                postId == null ? UniqueVisitorTracker.SITE : postId, from, to);
+
+        HyperLogLog total = new HyperLogLog();
+        List<DailyUniqueVisitorsResponse> daily = new ArrayList<>(days);
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            HyperLogLog s = sketches.get(d);
+            if (s == null) {
+                daily.add(new DailyUniqueVisitorsResponse(d, 0L));
+                continue;
+            }
+            daily.add(new DailyUniqueVisitorsResponse(d, s.cardinality()));
+            total.merge(s);
+        }
+        return new UniqueVisitorsResponse(postId, days, total.cardinality(), daily);
+    }
+
+    /** 최근 N일 게시글 많이 쓴 작성자 — heavy-hitters 요약만 읽음 (근사치) */
     public List<TopAuthorResponse> topAuthors(int days, int limit) {
-        if (days <= 0) days = 30;
-        if (days > 365) days = 365;
-        if (limit <= 0) limit = 10;
-        if (limit > 50) limit = 50;
+        int d = clampDays(days);
+        int k = clampLimit(limit);
+        return statsCache.get(() -> loadTopAuthors(d, k), "top-authors", d, k);
+    }
 
-        LocalDateTime from = LocalDate.now().minusDays(days - 1L).atStartOfDay();
-        return statsRepository.topAuthors(from, PageRequest.of(0, limit));
+    private List<TopAuthorResponse> loadTopAuthors(int days, int limit) {
+        List<SpaceSaving.Counted<Long>> top = heavyHitters.topAuthors(fromDate(days), LocalDate.now(), limit);
+        Map<Long, String> nicknames = nicknames(top);
+
+        List<TopAuthorResponse> out = new ArrayList<>(top.size());
+        for (SpaceSaving.Counted<Long> c : top) {
+            out.add(new TopAuthorResponse(c.key(), nicknames.get(c.key()), c.count()));
+        }
+        return out;
+    }
+
+    /** 최근 N일 댓글 많이 쓴 사용자 (근사치) */
+    public List<TopCommenterResponse> topCommenters(int days, int limit) {
+        int d = clampDays(days);
+        int k = clampLimit(limit);
+        return statsCache.get(() -> loadTopCommenters(d, k), "top-commenters", d, k);
+    }
+
+    private List<TopCommenterResponse> loadTopCommenters(int days, int limit) {
+        List<SpaceSaving.Counted<Long>> top = heavyHitters.topCommenters(fromDate(days), LocalDate.now(), limit);
+        Map<Long, String> nicknames = nicknames(top);
+
+        List<TopCommenterResponse> out = new ArrayList<>(top.size());
+        for (SpaceSaving.Counted<Long> c : top) {
+            out.add(new TopCommenterResponse(c.key(), nicknames.get(c.key()), c.count()));
+        }
+        return out;
+    }
+
+    /** 최근 N일 게시글이 많이 올라온 식당 (근사치) */
+    public List<TopRestaurantResponse> topRestaurants(int days, int limit) {
+        int d = clampDays(days);
+        int k = clampLimit(limit);
+        return statsCache.get(() -> loadTopRestaurants(d, k), "top-restaurants", d, k);
+    }
+
+    private List<TopRestaurantResponse> loadTopRestaurants(int days, int limit) {
+        List<SpaceSaving.Counted<String>> top = heavyHitters.topRestaurants(fromDate(days), LocalDate.now(), limit);
+
+        List<TopRestaurantResponse> out = new ArrayList<>(top.size());
+        for (SpaceSaving.Counted<String> c : top) {
+            out.add(new TopRestaurantResponse(c.key(), c.count()));
+        }
+        return out;
+    }
+
+    /** 캐시 설정/적중 현황 */
+    public CacheStatsResponse cacheStats() {
+        return CacheStatsResponse.from(statsCache.stats());
+    }
+
+    private int clampDays(int days) {
+        if (days <= 0) return 30;
+        return Math.min(days, 365);
+    }
+
+    private LocalDate fromDate(int days) {
+        return LocalDate.now().minusDays(days - 1L);
+    }
+
+    private int clampLimit(int limit) {
+        if (limit <= 0) return 10;
+        return Math.min(limit, 50);
+    }
+
+    // 상위 k명 닉네임만 PK로 조회
+    private Map<Long, String> nicknames(List<SpaceSaving.Counted<Long>> top) {
+        List<Long> ids = new ArrayList<>(top.size());
+        for (SpaceSaving.Counted<Long> c : top) ids.add(c.key());
+
+        Map<Long, String> out = new HashMap<>();
+        for (User u : userRepository.findAllById(ids)) {
+            out.put(u.getUserId(), u.getNickname());
+        }
+        return out;
     }
 }
@@ -0,0 +1,16 @@
+package com.foodieblog.stats;
+
+import com.foodieblog.common.ttl.TtlTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 통계 관련 만료 데이터 정리 대상 (common/ttl/TtlJanitor) */
+@Configuration
+public class StatsTtlConfig {
+
+    // 보관 기간(stats.topk.retention-days)이 지난 일 버킷 요약
+    @Bean
+    public TtlTable topKSummariesTtl() {
+        return new TtlTable("topk_summaries", "topk_summary_id", "expires_at");
+    }
+}
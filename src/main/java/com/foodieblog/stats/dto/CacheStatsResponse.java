@@ -0,0 +1,28 @@
+package com.foodieblog.stats.dto;
+
+import com.foodieblog.common.cache.SingleFlightCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 캐시 설정(TTL) + 누적 카운터 (인스턴스 기동 이후) */
+@Getter
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long ttlSeconds;
+    private long staleSeconds;
+    private int size;
+    private long hits;
+    private long staleHits;
+    private long misses;
+    private long coalesced;
+    private long refreshes;
+    private long failures;
+
+    public static CacheStatsResponse from(SingleFlightCache.Stats s) {
+        return new CacheStatsResponse(
+                s.name(), s.ttlMillis() / 1000, s.staleMillis() / 1000, s.size(),
+                s.hits(), s.staleHits(), s.misses(), s.coalesced(), s.refreshes(), s.failures()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DailyUniqueVisitorsResponse {
+    private LocalDate date;
+    private long uniqueVisitors;
+}
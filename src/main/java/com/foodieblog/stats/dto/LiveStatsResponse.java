@@ -0,0 +1,17 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/** 분 단위 실시간 지표 — 지표별 long[] (startAt부터 1분 간격, 오래된 순) */
+@Getter
+@AllArgsConstructor
+public class LiveStatsResponse {
+    private Instant startAt;
+    private int intervalSeconds;
+    private int windowMinutes;
+    private Map<String, long[]> series;
+}
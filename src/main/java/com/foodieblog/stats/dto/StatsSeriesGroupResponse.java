@@ -0,0 +1,13 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** groupBy 값 하나의 시계열 (categoryId == null 이면 전체 합계) */
+@Getter
+@AllArgsConstructor
+public class StatsSeriesGroupResponse {
+    private Long categoryId;
+    private long[] posts;
+    private long[] comments;
+}
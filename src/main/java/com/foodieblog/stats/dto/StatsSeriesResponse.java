@@ -0,0 +1,21 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 구간 통계 (컬럼형)
+ * - bucketStarts[i] 가 각 그룹 배열의 i번째 값에 대응
+ * - 첫/마지막 버킷은 from~to 에 포함된 부분만 집계된다 (예: 주/월 중간에서 시작)
+ */
+@Getter
+@AllArgsConstructor
+public class StatsSeriesResponse {
+    private String granularity;
+    private String groupBy;                 // "none" | "category"
+    private List<LocalDateTime> bucketStarts;
+    private List<StatsSeriesGroupResponse> groups;
+}
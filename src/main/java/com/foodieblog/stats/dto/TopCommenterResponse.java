@@ -0,0 +1,12 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TopCommenterResponse {
+    private Long authorId;
+    private String nickname;
+    private long commentCount;
+}
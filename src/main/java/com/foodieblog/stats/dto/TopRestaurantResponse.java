@@ -0,0 +1,11 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TopRestaurantResponse {
+    private String restaurantName;
+    private long postCount;
+}
@@ -0,0 +1,16 @@
+package com.foodieblog.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 고유 방문자 수 (HyperLogLog 추정치, 오차 ~1%) — postId가 null이면 사이트 전체 */
+@Getter
+@AllArgsConstructor
+public class UniqueVisitorsResponse {
+    private Long postId;
+    private int days;
+    private long uniqueVisitors;           // 기간 전체 (일자별 sketch merge)
+    private List<DailyUniqueVisitorsResponse> daily;
+}
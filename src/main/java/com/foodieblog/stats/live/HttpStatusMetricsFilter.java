@@ -0,0 +1,35 @@
+package com.foodieblog.stats.live;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/** 응답 상태코드(4xx/5xx)를 LiveActivityMetrics에 기록 — 필터 체인 가장 바깥에 둔다 */
+@RequiredArgsConstructor
+public class HttpStatusMetricsFilter extends OncePerRequestFilter {
+
+    private final LiveActivityMetrics liveActivityMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            liveActivityMetrics.record(LiveMetric.HTTP_5XX);
+            throw e;
+        }
+
+        int status = response.getStatus();
+        if (status >= 500) {
+            liveActivityMetrics.record(LiveMetric.HTTP_5XX);
+        } else if (status >= 400) {
+            liveActivityMetrics.record(LiveMetric.HTTP_4XX);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.foodieblog.stats.live;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 실시간(분 단위) 활동 지표
+ * - 서비스/필터 계층에서 record() 호출, DB 접근 없음
+ * - 지표별로 capacity(기본 1440분 = 24시간) 크기의 링 버퍼 하나씩
+ */
+@Component
+public class LiveActivityMetrics {
+
+    private final Map<LiveMetric, MinuteRingBuffer> buffers = new EnumMap<>(LiveMetric.class);
+    private final int capacityMinutes;
+
+    public LiveActivityMetrics(@Value("${stats.live.capacity-minutes:1440}") int capacityMinutes) {
+        this.capacityMinutes = capacityMinutes;
+        for (LiveMetric m : LiveMetric.values()) {
+            buffers.put(m, new MinuteRingBuffer(capacityMinutes));
+        }
+    }
+
+    public void record(LiveMetric metric) {
+        buffers.get(metric).increment(currentMinute());
+    }
+
+    /** 최근 windowMinutes 분(현재 분 포함)의 분당 값, 오래된 순 */
+    public long[] series(LiveMetric metric, long endMinute, int windowMinutes) {
+        MinuteRingBuffer buffer = buffers.get(metric);
+        long[] out = new long[windowMinutes];
+        long start = endMinute - windowMinutes + 1;
+        for (int i = 0; i < windowMinutes; i++) {
+            out[i] = buffer.get(start + i);
+        }
+        return out;
+    }
+
+    public int capacityMinutes() {
+        return capacityMinutes;
+    }
+
+    public long currentMinute() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+}
@@ -0,0 +1,10 @@
+package com.foodieblog.stats.live;
+
+public enum LiveMetric {
+    POSTS,
+    COMMENTS,
+    LOGINS,
+    SIGNUPS,
+    HTTP_4XX,
+    HTTP_5XX
+}
@@ -0,0 +1,64 @@
+package com.foodieblog.stats.live;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분 단위 카운터 링 버퍼 (lock-free)
+ * - slot = epochMinute % capacity, 슬롯에 기록된 minute이 다르면 CAS로 새 슬롯으로 교체
+ * - 슬롯 수가 고정이라 트래픽과 무관하게 메모리 사용량 일정
+ */
+final class MinuteRingBuffer {
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int capacity;
+
+    MinuteRingBuffer(int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, new Slot(-1L));
+        }
+    }
+
+    void increment(long epochMinute) {
+        Slot slot = slotFor(epochMinute);
+        if (slot != null) slot.count.increment();
+    }
+
+    /** 해당 분의 값 (이미 덮어쓰였거나 기록 없으면 0) */
+    long get(long epochMinute) {
+        Slot slot = slots.get(index(epochMinute));
+        return slot.minute == epochMinute ? slot.count.sum() : 0L;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private Slot slotFor(long epochMinute) {
+        int idx = index(epochMinute);
+        while (true) {
+            Slot slot = slots.get(idx);
+            if (slot.minute == epochMinute) return slot;
+            // 이미 다음 바퀴로 넘어간 슬롯에 늦게 도착한 이벤트는 버린다
+            if (slot.minute > epochMinute) return null;
+
+            Slot fresh = new Slot(epochMinute);
+            if (slots.compareAndSet(idx, slot, fresh)) return fresh;
+        }
+    }
+
+    private int index(long epochMinute) {
+        return (int) Math.floorMod(epochMinute, (long) capacity);
+    }
+
+    private static final class Slot {
+        final long minute;
+        final LongAdder count = new LongAdder();
+
+        Slot(long minute) {
+            this.minute = minute;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.foodieblog.stats.topk;
+
+import com.foodieblog.common.concurrent.FanOut;
+import com.foodieblog.stats.StatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 작성자/댓글 작성자/식당별 상위 k 집계 (일 버킷 Space-Saving, topk_summaries 공유)
+ * - 쓰기 이벤트를 커밋 이후에 메모리 증감분으로 모으고, flush-interval 마다 공유 요약에 merge (롤백된 쓰기는 집계되지 않음)
+ * - 조회는 공유 요약을 구간 merge → 어느 인스턴스에서 조회해도 전체 쓰기가 반영된 같은 근사치 (flush 주기만큼 지연)
+ * - 기동 시 요약이 없는 일자만 GROUP BY 한 번으로 채운다 (warmup, 실패해도 기동은 계속)
+ */
+@Slf4j
+@Component
+public class HeavyHitters {
+
+    private static final Duration WARMUP_DEADLINE = Duration.ofMinutes(5);
+
+    private final StatsRepository statsRepository;
+    private final FanOut fanOut;
+    private final boolean warmup;
+
+    private final TopKWindow<Long> authors;
+    private final TopKWindow<Long> commenters;
+    private final TopKWindow<String> restaurants;
+
+    public HeavyHitters(
+            StatsRepository statsRepository,
+            TopKSummaryRepository topKSummaryRepository,
+            FanOut fanOut,
+            @Value("${stats.topk.retention-days:366}") int retentionDays,
+            @Value("${stats.topk.bucket-capacity:200}") int bucketCapacity,
+            @Value("${stats.topk.month-capacity:800}") int monthCapacity,
+            @Value("${stats.topk.warmup:true}") boolean warmup
+    ) {
+        this.statsRepository = statsRepository;
+        this.fanOut = fanOut;
+        this.warmup = warmup;
+        this.authors = new TopKWindow<>("authors", SpaceSaving.KeyCodec.LONG,
+                topKSummaryRepository, retentionDays, bucketCapacity, monthCapacity);
+        this.commenters = new TopKWindow<>("commenters", SpaceSaving.KeyCodec.LONG,
+                topKSummaryRepository, retentionDays, bucketCapacity, monthCapacity);
+        this.restaurants = new TopKWindow<>("restaurants", SpaceSaving.KeyCodec.STRING,
+                topKSummaryRepository, retentionDays, bucketCapacity, monthCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!warmup) return;
+        try {
+            seed();
+        } catch (RuntimeException e) {
+            // 요약이 비어 있는 일자만 덜 정확해질 뿐 → 기동은 계속, 다음 기동 때 다시 시도
+            log.warn("[STATS] heavy-hitters warmup failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stats.topk.flush-interval-ms:10000}")
+    public void flush() {
+        int saved = authors.flush() + commenters.flush() + restaurants.flush();
+        if (saved > 0) {
+            log.debug("[STATS] heavy-hitters flushed buckets={}", saved);
+        }
+    }
+
+    // 종료 시 남은 증감분 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void seed() {
+        LocalDate fromDate = earliest(
+                authors.firstMissing(LocalDate.now().minusDays(authors.retentionDays() - 1L)),
+                commenters.firstMissing(LocalDate.now().minusDays(commenters.retentionDays() - 1L)),
+                restaurants.firstMissing(LocalDate.now().minusDays(restaurants.retentionDays() - 1L)));
+        if (fromDate == null) {
+            log.info("[STATS] heavy-hitters summaries already present, warmup skipped");
+            return;
+        }
+        LocalDateTime from = fromDate.atStartOfDay();
+
+        FanOut.Subtask<List<Object[]>> postsByAuthor;
+        FanOut.Subtask<List<Object[]>> commentsByAuthor;
+        FanOut.Subtask<List<Object[]>> postsByRestaurant;
+        try (FanOut.Scope scope = fanOut.open(WARMUP_DEADLINE)) {
+            postsByAuthor = scope.fork(() -> statsRepository.countPostsDailyByAuthor(from));
+            commentsByAuthor = scope.fork(() -> statsRepository.countCommentsDailyByAuthor(from));
+            postsByRestaurant = scope.fork(() -> statsRepository.countPostsDailyByRestaurant(from));
+            scope.join();
+        }
+
+        int seeded = authors.seed(fromDate, byDay(postsByAuthor.get(), r -> (Long) r[1]))
+                + commenters.seed(fromDate, byDay(commentsByAuthor.get(), r -> (Long) r[1]))
+                + restaurants.seed(fromDate, byDay(postsByRestaurant.get(), r -> normalize((String) r[1])));
+        log.info("[STATS] heavy-hitters warmed up seededBuckets={}", seeded);
+    }
+
+    private static LocalDate earliest(LocalDate... dates) {
+        LocalDate min = null;
+        for (LocalDate d : dates) {
+            if (d != null && (min == null || d.isBefore(min))) min = d;
+        }
+        return min;
+    }
+
+    // (일자, key, count) 행 → 일자별 빈도표 (정규화로 합쳐지는 key 는 합산)
+    private static <K> Map<LocalDate, Map<K, Long>> byDay(List<Object[]> rows, Function<Object[], K> key) {
+        Map<LocalDate, Map<K, Long>> out = new HashMap<>();
+        for (Object[] r : rows) {
+            out.computeIfAbsent(toLocalDate(r[0]), d -> new HashMap<>())
+                    .merge(key.apply(r), ((Number) r[2]).longValue(), Long::sum);
+        }
+        return out;
+    }
+
+    /** 게시글 작성(+1)/삭제(-1) */
+    public void addPost(LocalDate day, Long authorId, String restaurantName, long delta) {
+        afterCommit(() -> {
+            authors.add(day, authorId, delta);
+            restaurants.add(day, normalize(restaurantName), delta);
+        });
+    }
+
+    /** 게시글 수정으로 식당명이 바뀐 경우 */
+    public void moveRestaurant(LocalDate day, String from, String to) {
+        String oldKey = normalize(from);
+        String newKey = normalize(to);
+        if (oldKey.equals(newKey)) return;
+        afterCommit(() -> {
+            restaurants.add(day, oldKey, -1);
+            restaurants.add(day, newKey, 1);
+        });
+    }
+
+    /** 댓글 작성(+1)/삭제(-1) */
+    public void addComment(LocalDate day, Long authorId, long delta) {
+        afterCommit(() -> commenters.add(day, authorId, delta));
+    }
+
+    public List<SpaceSaving.Counted<Long>> topAuthors(LocalDate from, LocalDate to, int k) {
+        return authors.top(from, to, k);
+    }
+
+    public List<SpaceSaving.Counted<Long>> topCommenters(LocalDate from, LocalDate to, int k) {
+        return commenters.top(from, to, k);
+    }
+
+    public List<SpaceSaving.Counted<String>> topRestaurants(LocalDate from, LocalDate to, int k) {
+        return restaurants.top(from, to, k);
+    }
+
+    public int retentionDays() {
+        return authors.retentionDays();
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 공백 차이로 같은 식당이 나뉘지 않게 정규화
+    private static String normalize(String restaurantName) {
+        return restaurantName == null ? "" : restaurantName.trim().replaceAll("\\s+", " ");
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate d) return d;
+        if (value instanceof Date d) return d.toLocalDate();
+        if (value instanceof LocalDateTime dt) return dt.toLocalDate();
+        return LocalDate.parse(value.toString());
+    }
+}
@@ -0,0 +1,237 @@
+package com.foodieblog.stats.topk;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitters 요약 (Metwally et al.)
+ * - 최대 capacity개의 (key, count, error)만 유지 → 메모리 고정
+ * - 꽉 찼을 때 새 key는 최소 카운터를 물려받는다 (count = min + delta, error = min)
+ * - count - error <= 실제 빈도 <= count (과대추정만 있음)
+ * - floor: 추적하지 않는 key 의 실제 빈도 상한 (밀려난 카운터 중 최대)
+ * - merge()로 다른 버킷/노드의 요약과 합칠 수 있다 (한쪽에만 있는 key 는 반대쪽 floor 를 count/error 에 더해 상한 유지)
+ * - toBytes/fromBytes 로 저장 (stats/topk/TopKSummary)
+ *
+ * 스레드 안전하지 않음 — TopKWindow 는 DB 에서 읽은 요약을 호출 안에서만 쓰고 스레드 간에 공유하지 않는다.
+ */
+public final class SpaceSaving<K> {
+
+    private final int capacity;
+    private final Map<K, Counter> counters;
+    private long floor;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.counters = new HashMap<>(Math.min(capacity, 1024) * 2);
+    }
+
+    /**
+     * 정확한 빈도표에서 상위 capacity 개만 남긴 요약 (원본 GROUP BY 결과로 시드할 때)
+     * - 잘린 key 중 최대 빈도가 floor
+     */
+    public static <K> SpaceSaving<K> ofExact(int capacity, Map<K, Long> counts) {
+        SpaceSaving<K> s = new SpaceSaving<>(capacity);
+        List<Map.Entry<K, Long>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+        for (int i = 0; i < sorted.size(); i++) {
+            long count = sorted.get(i).getValue();
+            if (count <= 0) continue;
+            if (i < capacity) {
+                s.counters.put(sorted.get(i).getKey(), new Counter(count, 0L));
+            } else {
+                s.floor = Math.max(s.floor, count);
+            }
+        }
+        return s;
+    }
+
+    public void offer(K key, long delta) {
+        if (delta <= 0) return;
+
+        Counter c = counters.get(key);
+        if (c != null) {
+            c.count += delta;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(delta, 0L));
+            return;
+        }
+
+        // 최소 카운터 교체 (capacity가 작아서 선형 탐색으로 충분)
+        K minKey = null;
+        Counter min = null;
+        for (Map.Entry<K, Counter> e : counters.entrySet()) {
+            if (min == null || e.getValue().count < min.count) {
+                minKey = e.getKey();
+                min = e.getValue();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new Counter(min.count + delta, min.count));
+        floor = Math.max(floor, min.count);
+    }
+
+    /** 삭제 반영 — 추적 중인 key만 깎는다 (밀려난 key는 이미 오차 범위 안) */
+    public void retract(K key, long delta) {
+        Counter c = counters.get(key);
+        if (c == null) return;
+        c.count = Math.max(0L, c.count - delta);
+        if (c.error > c.count) c.error = c.count;
+    }
+
+    /**
+     * other를 이 요약에 합친다 (Agarwal et al. mergeable summaries)
+     * - 양쪽에 있는 key: count/error 합산
+     * - 한쪽에만 있는 key: 없는 쪽에서의 빈도는 최대 그쪽 floor → count/error 에 floor 를 더한다
+     * - 상위 capacity개만 유지, 잘린 key 의 count 는 새 floor 후보
+     */
+    public void merge(SpaceSaving<K> other) {
+        long myFloor = floor;
+        long otherFloor = other.floor;
+        if (otherFloor > 0) {
+            for (Map.Entry<K, Counter> e : counters.entrySet()) {
+                if (!other.counters.containsKey(e.getKey())) {
+                    e.getValue().count += otherFloor;
+                    e.getValue().error += otherFloor;
+                }
+            }
+        }
+        for (Map.Entry<K, Counter> e : other.counters.entrySet()) {
+            Counter mine = counters.get(e.getKey());
+            if (mine == null) {
+                counters.put(e.getKey(), new Counter(e.getValue().count + myFloor, e.getValue().error + myFloor));
+            } else {
+                mine.count += e.getValue().count;
+                mine.error += e.getValue().error;
+            }
+        }
+        floor = myFloor + otherFloor;
+
+        if (counters.size() > capacity) {
+            List<Map.Entry<K, Counter>> sorted = new ArrayList<>(counters.entrySet());
+            sorted.sort(Comparator.comparingLong((Map.Entry<K, Counter> e) -> e.getValue().count).reversed());
+            for (int i = capacity; i < sorted.size(); i++) {
+                floor = Math.max(floor, sorted.get(i).getValue().count);
+                counters.remove(sorted.get(i).getKey());
+            }
+        }
+    }
+
+    /** 상위 k개 (count 내림차순) */
+    public List<Counted<K>> top(int k) {
+        List<Counted<K>> out = new ArrayList<>(counters.size());
+        for (Map.Entry<K, Counter> e : counters.entrySet()) {
+            if (e.getValue().count > 0) {
+                out.add(new Counted<>(e.getKey(), e.getValue().count, e.getValue().error));
+            }
+        }
+        out.sort(Comparator.comparingLong(Counted<K>::count).reversed());
+        return out.size() > k ? new ArrayList<>(out.subList(0, k)) : out;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long floor() {
+        return floor;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty() && floor == 0;
+    }
+
+    /** [version][capacity][floor][n]([key][count][error])* */
+    public byte[] toBytes(KeyCodec<K> codec) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + counters.size() * 24);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(1);
+            out.writeInt(capacity);
+            out.writeLong(floor);
+            out.writeInt(counters.size());
+            for (Map.Entry<K, Counter> e : counters.entrySet()) {
+                codec.write(out, e.getKey());
+                out.writeLong(e.getValue().count);
+                out.writeLong(e.getValue().error);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static <K> SpaceSaving<K> fromBytes(byte[] bytes, KeyCodec<K> codec) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            int version = in.readByte();
+            if (version != 1) throw new IllegalArgumentException("unsupported space-saving version: " + version);
+            SpaceSaving<K> s = new SpaceSaving<>(in.readInt());
+            s.floor = in.readLong();
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                K key = codec.read(in);
+                s.counters.put(key, new Counter(in.readLong(), in.readLong()));
+            }
+            return s;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("corrupted space-saving summary", e);
+        }
+    }
+
+    public record Counted<K>(K key, long count, long error) {}
+
+    /** 직렬화용 key 변환 */
+    public interface KeyCodec<K> {
+
+        KeyCodec<Long> LONG = new KeyCodec<>() {
+            @Override
+            public void write(DataOutputStream out, Long key) throws IOException {
+                out.writeLong(key);
+            }
+
+            @Override
+            public Long read(DataInputStream in) throws IOException {
+                return in.readLong();
+            }
+        };
+
+        KeyCodec<String> STRING = new KeyCodec<>() {
+            @Override
+            public void write(DataOutputStream out, String key) throws IOException {
+                out.writeUTF(key);
+            }
+
+            @Override
+            public String read(DataInputStream in) throws IOException {
+                return in.readUTF();
+            }
+        };
+
+        void write(DataOutputStream out, K key) throws IOException;
+
+        K read(DataInputStream in) throws IOException;
+    }
+
+    private static final class Counter {
+        long count;
+        long error;
+
+        Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
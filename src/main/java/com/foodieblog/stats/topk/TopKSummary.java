@@ -0,0 +1,76 @@
+package com.foodieblog.stats.topk;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * (종류, 일자)별 Space-Saving 요약 직렬화 값
+ * - 각 인스턴스가 주기적으로 자기 증감분을 merge 해서 저장 (TopKWindow.flush)
+ * - 조회는 구간의 행들을 merge → 인스턴스 수와 무관하게 같은 결과
+ * - kind 가 "{kind}/m" 인 행은 월 요약 (stat_date = 그 달 1일), sourceFingerprint = 만들 때 쓴 일 요약들의 (일자, version) 합
+ */
+@Entity
+@Table(name = "topk_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_topk_summaries_kind_date", columnNames = {"kind", "stat_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopKSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "topk_summary_id")
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String kind;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] summary;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 월 요약 전용 (일 요약은 0)
+    @Column(nullable = false)
+    private long sourceFingerprint;
+
+    // 여러 인스턴스가 같은 행을 동시에 merge 할 때 lost update 방지
+    @Version
+    private long version;
+
+    public TopKSummary(String kind, LocalDate statDate, byte[] summary, LocalDateTime expiresAt) {
+        this.kind = kind;
+        this.statDate = statDate;
+        this.summary = summary;
+        this.updatedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public TopKSummary(String kind, LocalDate statDate, byte[] summary, LocalDateTime expiresAt, long sourceFingerprint) {
+        this(kind, statDate, summary, expiresAt);
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
+    public void replaceSummary(byte[] summary) {
+        this.summary = summary;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replaceSummary(byte[] summary, long sourceFingerprint) {
+        replaceSummary(summary);
+        this.sourceFingerprint = sourceFingerprint;
+    }
+}
@@ -0,0 +1,28 @@
+package com.foodieblog.stats.topk;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TopKSummaryRepository extends JpaRepository<TopKSummary, Long> {
+
+    // read-modify-write 용 — readOnly 아님 → replica 라우팅 대상에서 제외 (primary 고정)
+    @Transactional
+    Optional<TopKSummary> findByKindAndStatDate(String kind, LocalDate statDate);
+
+    List<TopKSummary> findByKindAndStatDateBetween(String kind, LocalDate from, LocalDate to);
+
+    // 월 요약이 최신인지 판단 (blob 없이 일자/version 만)
+    @Query("select s.statDate, s.version from TopKSummary s where s.kind = :kind and s.statDate between :from and :to")
+    List<Object[]> findVersions(@Param("kind") String kind, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 시드 여부 판단 (이미 있는 일자는 원본 GROUP BY 결과로 덮지 않는다)
+    @Transactional
+    @Query("select s.statDate from TopKSummary s where s.kind = :kind and s.statDate >= :from")
+    List<LocalDate> findStatDates(@Param("kind") String kind, @Param("from") LocalDate from);
+}
@@ -0,0 +1,226 @@
+package com.foodieblog.stats.topk;
+
+import com.foodieblog.common.sketch.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 종류(kind)의 일(day) 버킷 Space-Saving 요약 — topk_summaries 에 공유
+ * - 쓰기: 인스턴스 메모리에 (일자, key) 증감분만 모았다가 flush 때 DB 요약에 merge (@Version 경합 시 다음 주기 재시도)
+ * - 조회: 양 끝 자투리는 일 요약, 꽉 찬 달은 월 요약("{kind}/m" 행)을 merge → 상위 k개 (StatsService.series 와 같은 분할)
+ *   - 1년 구간도 일 요약 365개가 아니라 월 요약 ~12개 + 자투리 일 요약만 merge
+ *   - 월 요약은 조회 때 그 달 일 요약들로 만들어 두고, 일 요약 (일자, version) fingerprint 가 달라졌을 때만 다시 만든다
+ * - 시드: 요약이 없는 일자만 원본 GROUP BY 결과로 채운다 (이미 있으면 건드리지 않음, 글이 없던 날도 빈 요약으로 표시)
+ */
+@Slf4j
+final class TopKWindow<K> {
+
+    private final String kind;
+    private final String monthKind;
+    private final SpaceSaving.KeyCodec<K> codec;
+    private final TopKSummaryRepository repository;
+    private final int retentionDays;
+    private final int bucketCapacity;
+    private final int monthCapacity;
+
+    // 마지막 flush 이후의 증감분 (compute/remove 로 일자 단위 원자성 보장)
+    private final ConcurrentHashMap<LocalDate, Map<K, Long>> pending = new ConcurrentHashMap<>();
+
+    TopKWindow(String kind, SpaceSaving.KeyCodec<K> codec, TopKSummaryRepository repository,
+               int retentionDays, int bucketCapacity, int monthCapacity) {
+        this.kind = kind;
+        this.monthKind = kind + "/m";
+        this.codec = codec;
+        this.repository = repository;
+        this.retentionDays = retentionDays;
+        this.bucketCapacity = bucketCapacity;
+        this.monthCapacity = monthCapacity;
+    }
+
+    void add(LocalDate day, K key, long delta) {
+        if (delta == 0 || day.isBefore(LocalDate.now().minusDays(retentionDays - 1L))) return;
+        pending.compute(day, (d, deltas) -> {
+            if (deltas == null) deltas = new HashMap<>();
+            deltas.merge(key, delta, Long::sum);
+            return deltas;
+        });
+    }
+
+    /**
+     * [from, to] 구간 상위 k개 (양 끝 포함)
+     * - 중간 절삭 없이 구간 전체를 합친 뒤 자른다 (버킷마다 순위가 달라도 누락 없음)
+     */
+    List<SpaceSaving.Counted<K>> top(LocalDate from, LocalDate to, int k) {
+        // 꽉 찬 달: [firstFull, lastFullEnd]
+        LocalDate firstFull = (from.getDayOfMonth() == 1) ? from : from.withDayOfMonth(1).plusMonths(1);
+        LocalDate lastFullEnd = (to.plusDays(1).getDayOfMonth() == 1) ? to : to.withDayOfMonth(1).minusDays(1);
+
+        List<SpaceSaving<K>> parts = new ArrayList<>();
+        if (firstFull.isAfter(lastFullEnd)) {
+            addDays(from, to, parts);
+        } else {
+            if (from.isBefore(firstFull)) addDays(from, firstFull.minusDays(1), parts);
+            addMonths(firstFull, lastFullEnd, parts);
+            if (to.isAfter(lastFullEnd)) addDays(lastFullEnd.plusDays(1), to, parts);
+        }
+
+        int capacity = 0;
+        for (SpaceSaving<K> part : parts) capacity += part.capacity();
+        SpaceSaving<K> merged = new SpaceSaving<>(Math.max(1, capacity));
+        parts.forEach(merged::merge);
+        return merged.top(k);
+    }
+
+    /** 증감분을 DB 요약에 반영, 실패한 일자는 다음 주기에 재시도 */
+    int flush() {
+        int saved = 0;
+        for (LocalDate day : new ArrayList<>(pending.keySet())) {
+            Map<K, Long> deltas = pending.remove(day);
+            if (deltas == null) continue;
+            try {
+                save(day, deltas);
+                saved++;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // 다른 인스턴스와 경합 → 다음 주기에 다시 merge
+                requeue(day, deltas);
+            } catch (RuntimeException e) {
+                requeue(day, deltas);
+                log.warn("[STATS] top-k flush failed kind={} date={}", kind, day, e);
+            }
+        }
+        return saved;
+    }
+
+    /** [from, 오늘] 중 요약이 없는 첫 일자 (모두 있으면 null) */
+    LocalDate firstMissing(LocalDate from) {
+        Set<LocalDate> existing = new HashSet<>(repository.findStatDates(kind, from));
+        for (LocalDate d = from; !d.isAfter(LocalDate.now()); d = d.plusDays(1)) {
+            if (!existing.contains(d)) return d;
+        }
+        return null;
+    }
+
+    /** [from, 오늘] 중 요약이 없는 일자만 정확한 빈도표로 시드, 반환값은 새로 채운 일자 수 */
+    int seed(LocalDate from, Map<LocalDate, Map<K, Long>> countsByDay) {
+        Set<LocalDate> existing = new HashSet<>(repository.findStatDates(kind, from));
+        int seeded = 0;
+        for (LocalDate d = from; !d.isAfter(LocalDate.now()); d = d.plusDays(1)) {
+            if (existing.contains(d)) continue;
+            SpaceSaving<K> summary = SpaceSaving.ofExact(bucketCapacity, countsByDay.getOrDefault(d, Map.of()));
+            try {
+                repository.save(new TopKSummary(kind, d, summary.toBytes(codec), expiresAt(d)));
+                seeded++;
+            } catch (DataIntegrityViolationException ex) {
+                // 다른 인스턴스가 먼저 채움
+            }
+        }
+        return seeded;
+    }
+
+    int retentionDays() {
+        return retentionDays;
+    }
+
+    private void addDays(LocalDate from, LocalDate to, List<SpaceSaving<K>> parts) {
+        for (TopKSummary row : repository.findByKindAndStatDateBetween(kind, from, to)) {
+            parts.add(SpaceSaving.fromBytes(row.getSummary(), codec));
+        }
+    }
+
+    /** 월 요약 사용, 없거나 그 달 일 요약이 바뀌었으면 다시 만든다 */
+    private void addMonths(LocalDate firstFull, LocalDate lastFullEnd, List<SpaceSaving<K>> parts) {
+        Map<LocalDate, TopKSummary> months = new HashMap<>();
+        for (TopKSummary row : repository.findByKindAndStatDateBetween(monthKind, firstFull, lastFullEnd.withDayOfMonth(1))) {
+            months.put(row.getStatDate(), row);
+        }
+        Map<LocalDate, Long> fingerprints = new HashMap<>();
+        for (Object[] r : repository.findVersions(kind, firstFull, lastFullEnd)) {
+            LocalDate day = (LocalDate) r[0];
+            fingerprints.merge(day.withDayOfMonth(1), fingerprint(day, ((Number) r[1]).longValue()), Long::sum);
+        }
+
+        for (LocalDate month = firstFull; month.isBefore(lastFullEnd); month = month.plusMonths(1)) {
+            TopKSummary row = months.get(month);
+            if (row != null && row.getSourceFingerprint() == fingerprints.getOrDefault(month, 0L)) {
+                parts.add(SpaceSaving.fromBytes(row.getSummary(), codec));
+            } else {
+                parts.add(rollUpMonth(month));
+            }
+        }
+    }
+
+    /** 그 달 일 요약 merge → 월 요약 저장 (다른 인스턴스와 경합하면 이번 조회에만 사용) */
+    private SpaceSaving<K> rollUpMonth(LocalDate month) {
+        SpaceSaving<K> summary = new SpaceSaving<>(monthCapacity);
+        long fingerprint = 0L;
+        for (TopKSummary day : repository.findByKindAndStatDateBetween(kind, month, month.plusMonths(1).minusDays(1))) {
+            summary.merge(SpaceSaving.fromBytes(day.getSummary(), codec));
+            fingerprint += fingerprint(day.getStatDate(), day.getVersion());
+        }
+
+        try {
+            TopKSummary row = repository.findByKindAndStatDate(monthKind, month).orElse(null);
+            if (row == null) {
+                repository.save(new TopKSummary(monthKind, month, summary.toBytes(codec),
+                        expiresAt(month.plusMonths(1).minusDays(1)), fingerprint));
+            } else {
+                row.replaceSummary(summary.toBytes(codec), fingerprint);
+                repository.save(row);
+            }
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 갱신 → 다음 조회 때 fingerprint 로 다시 판단
+        } catch (RuntimeException e) {
+            log.warn("[STATS] top-k month roll-up save failed kind={} month={}", kind, month, e);
+        }
+        return summary;
+    }
+
+    // 순서와 무관하게 더함 → 일 요약 하나라도 추가/갱신(version 증가)되면 값이 바뀐다
+    private static long fingerprint(LocalDate day, long version) {
+        return Hashing.combine(day.toEpochDay(), version);
+    }
+
+    private void save(LocalDate day, Map<K, Long> deltas) {
+        TopKSummary row = repository.findByKindAndStatDate(kind, day).orElse(null);
+        SpaceSaving<K> summary = row == null
+                ? new SpaceSaving<>(bucketCapacity)
+                : SpaceSaving.fromBytes(row.getSummary(), codec);
+
+        for (Map.Entry<K, Long> e : deltas.entrySet()) {
+            long delta = e.getValue();
+            if (delta > 0) summary.offer(e.getKey(), delta);
+            else if (delta < 0) summary.retract(e.getKey(), -delta);
+        }
+
+        if (row == null) {
+            // 요약이 없는 날의 삭제만 있었으면 저장하지 않음 (이후 시드가 그 날을 건너뛰지 않게)
+            if (summary.isEmpty()) return;
+            repository.save(new TopKSummary(kind, day, summary.toBytes(codec), expiresAt(day)));
+        } else {
+            row.replaceSummary(summary.toBytes(codec));
+            repository.save(row);
+        }
+    }
+
+    private void requeue(LocalDate day, Map<K, Long> deltas) {
+        pending.merge(day, deltas, (current, failed) -> {
+            failed.forEach((key, delta) -> current.merge(key, delta, Long::sum));
+            return current;
+        });
+    }
+
+    private LocalDateTime expiresAt(LocalDate day) {
+        return day.plusDays(retentionDays).atStartOfDay();
+    }
+}
@@ -0,0 +1,149 @@
+package com.foodieblog.stats.uniques;
+
+import com.foodieblog.common.sketch.Hashing;
+import com.foodieblog.common.sketch.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글/사이트 고유 방문자 집계 (HyperLogLog)
+ * - 조회 시 (postId, 오늘), (0, 오늘) 두 sketch에 방문자 해시 추가 (메모리)
+ * - 주기적으로 DB sketch와 merge 해서 저장 (flush), 실패한 key는 다음 주기에 재시도
+ * - 방문자 식별: 로그인 사용자는 userId, 아니면 IP 해시 (원본 IP는 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class UniqueVisitorTracker {
+
+    public static final long SITE = 0L;
+
+    private static final long USER_SALT = 0x5DEECE66DL;
+    private static final long IP_SALT = 0x2545F4914F6CDD1DL;
+
+    private final VisitorSketchRepository visitorSketchRepository;
+
+    // 마지막 flush 이후 쌓인 sketch (compute/remove로 key 단위 원자성 보장)
+    private final ConcurrentHashMap<Key, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public UniqueVisitorTracker(VisitorSketchRepository visitorSketchRepository) {
+        this.visitorSketchRepository = visitorSketchRepository;
+    }
+
+    public void record(Long postId, Long userId, String clientIp) {
+        long visitor = (userId != null)
+                ? Hashing.combine(USER_SALT, userId)
+                : Hashing.combine(IP_SALT, fnv64(clientIp));
+
+        LocalDate today = LocalDate.now();
+        add(new Key(postId, today), visitor);
+        add(new Key(SITE, today), visitor);
+    }
+
+    /**
+     * [from, to] 일자별 sketch (DB + 아직 flush 안 된 메모리분 merge)
+     */
+    public Map<LocalDate, HyperLogLog> load(Long postId, LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> out = new HashMap<>();
+        for (VisitorSketch row : visitorSketchRepository.findByPostIdAndStatDateBetween(postId, from, to)) {
+            out.put(row.getStatDate(), HyperLogLog.fromBytes(row.getSketch()));
+        }
+
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            HyperLogLog snapshot = snapshot(new Key(postId, d));
+            if (snapshot == null) continue;
+            out.merge(d, snapshot, (a, b) -> {
+                a.merge(b);
+                return a;
+            });
+        }
+        return out;
+    }
+
+    @Scheduled(fixedDelayString = "${stats.uniques.flush-interval-ms:60000}")
+    public void flush() {
+        List<Key> keys = new ArrayList<>(pending.keySet());
+        int saved = 0;
+        for (Key key : keys) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch == null) continue;
+            try {
+                save(key, sketch);
+                saved++;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // 다른 인스턴스와 경합 → 다음 주기에 다시 merge
+                requeue(key, sketch);
+            } catch (RuntimeException e) {
+                requeue(key, sketch);
+                log.warn("[UNIQUES] flush failed postId={} date={}", key.postId(), key.date(), e);
+            }
+        }
+        if (saved > 0) {
+            log.debug("[UNIQUES] flushed sketches={}", saved);
+        }
+    }
+
+    // 종료 시 남은 메모리분 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void save(Key key, HyperLogLog sketch) {
+        VisitorSketch row = visitorSketchRepository.findByPostIdAndStatDate(key.postId(), key.date()).orElse(null);
+        if (row == null) {
+            visitorSketchRepository.save(new VisitorSketch(key.postId(), key.date(), sketch.toBytes()));
+            return;
+        }
+        HyperLogLog merged = HyperLogLog.fromBytes(row.getSketch());
+        merged.merge(sketch);
+        row.replaceSketch(merged.toBytes());
+        visitorSketchRepository.save(row);
+    }
+
+    private void add(Key key, long visitor) {
+        pending.compute(key, (k, hll) -> {
+            if (hll == null) hll = new HyperLogLog();
+            hll.add(visitor);
+            return hll;
+        });
+    }
+
+    private void requeue(Key key, HyperLogLog sketch) {
+        pending.merge(key, sketch, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        });
+    }
+
+    private HyperLogLog snapshot(Key key) {
+        HyperLogLog[] copy = new HyperLogLog[1];
+        pending.computeIfPresent(key, (k, hll) -> {
+            copy[0] = hll.copy();
+            return hll;
+        });
+        return copy[0];
+    }
+
+    private static long fnv64(String s) {
+        long h = 0xCBF29CE484222325L;
+        if (s == null) return h;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private record Key(Long postId, LocalDate date) {}
+}
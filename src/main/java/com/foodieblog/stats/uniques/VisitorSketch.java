@@ -0,0 +1,57 @@
+package com.foodieblog.stats.uniques;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * (게시글, 일자)별 방문자 HyperLogLog 직렬화 값
+ * - postId = 0 은 사이트 전체
+ * - UniqueVisitorTracker 가 주기적으로 메모리 sketch를 merge 해서 저장
+ */
+@Entity
+@Table(name = "visitor_sketches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_visitor_sketches_post_date", columnNames = {"post_id", "stat_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitorSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "visitor_sketch_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] sketch;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 여러 인스턴스가 같은 행을 동시에 merge 할 때 lost update 방지
+    @Version
+    private long version;
+
+    public VisitorSketch(Long postId, LocalDate statDate, byte[] sketch) {
+        this.postId = postId;
+        this.statDate = statDate;
+        this.sketch = sketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replaceSketch(byte[] sketch) {
+        this.sketch = sketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
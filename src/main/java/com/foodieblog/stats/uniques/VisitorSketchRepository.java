@@ -0,0 +1,14 @@
+package com.foodieblog.stats.uniques;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitorSketchRepository extends JpaRepository<VisitorSketch, Long> {
+
+    Optional<VisitorSketch> findByPostIdAndStatDate(Long postId, LocalDate statDate);
+
+    List<VisitorSketch> findByPostIdAndStatDateBetween(Long postId, LocalDate from, LocalDate to);
+}
@@ -36,6 +36,9 @@ public class User {
 
     private LocalDateTime deactivatedAt;
 
+    // active/role 변경 시각 (UserStatusCache 인스턴스 간 동기화용)
+    private LocalDateTime statusChangedAt;
+
     private LocalDateTime lastLoginAt;
 
     @Column(nullable = false, updatable = false)
@@ -55,8 +58,6 @@ public class User {
         this.role = role;
     }
 
-    public void markLogin() { this.lastLoginAt = LocalDateTime.now(); }
-
     public void updateNickname(String nickname) { this.nickname = nickname; }
 
     public void changePasswordHash(String passwordHash) { this.passwordHash = passwordHash; }
@@ -64,12 +65,17 @@ public class User {
     public void deactivate() {
         this.active = false;
         this.deactivatedAt = LocalDateTime.now();
+        this.statusChangedAt = LocalDateTime.now();
     }
 
     public void activate() {
         this.active = true;
         this.deactivatedAt = null;
+        this.statusChangedAt = LocalDateTime.now();
     }
 
-    public void changeRole(Role role) { this.role = role; }
+    public void changeRole(Role role) {
+        this.role = role;
+        this.statusChangedAt = LocalDateTime.now();
+    }
 }
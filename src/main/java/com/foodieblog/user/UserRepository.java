@@ -2,8 +2,17 @@ package com.foodieblog.user;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import com.foodieblog.user.dto.LoginCredential;
+import com.foodieblog.user.dto.TokenClaims;
+import com.foodieblog.user.dto.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +26,40 @@ public interface UserRepository extends JpaRepository<User, Long> {
             String nicknameKeyword,
             Pageable pageable
     );
+
+    // 토큰 재발급용 — 필요한 컬럼만 조회 (엔티티/영속성 컨텍스트 관리 없음)
+    // 아래 상태/권한 조회는 관리자 변경 직후 옛 값을 읽어 캐시하지 않도록 readOnly 아님 → replica 라우팅 대상에서 제외 (primary 고정)
+    @Transactional
+    @Query("select new com.foodieblog.user.dto.TokenClaims(u.userId, u.role, u.email, u.nickname) from User u where u.userId = :userId")
+    Optional<TokenClaims> findTokenClaims(@Param("userId") Long userId);
+
+    // UserStatusCache 미스 시 로딩 (PK 조회, 두 컬럼만)
+    @Transactional
+    @Query("select new com.foodieblog.user.dto.UserStatus(u.active, u.role) from User u where u.userId = :userId")
+    Optional<UserStatus> findStatus(@Param("userId") Long userId);
+
+    // 다른 인스턴스에서 active/role 이 바뀐 사용자 (UserStatusCache.sync)
+    @Transactional
+    @Query("select u.userId from User u where u.statusChangedAt > :since")
+    List<Long> findStatusChangedSince(@Param("since") LocalDateTime since);
+
+    // 로그인 1단계 — 해시 비교 전 짧게 조회만 (비밀번호 변경 직후 옛 해시로 로그인되지 않도록 primary 고정)
+    @Transactional
+    @Query("select new com.foodieblog.user.dto.LoginCredential(u.userId, u.passwordHash, u.active, u.role, u.email, u.nickname) from User u where u.email = :email")
+    Optional<LoginCredential> findLoginCredential(@Param("email") String email);
+
+    // 로그인 2단계 — 해시 비교가 끝난 뒤 로그인 시각 기록 + (cost 가 올랐으면) 재해시를 한 문장으로
+    // 그 사이 비밀번호가 바뀌었으면 재해시는 건너뜀 (1단계에서 읽은 해시 그대로일 때만 교체)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("""
+        update User u
+        set u.lastLoginAt = :now,
+            u.passwordHash = case when u.passwordHash = :readHash then :newHash else u.passwordHash end
+        where u.userId = :userId
+        """)
+    int recordLogin(@Param("userId") Long userId,
+                    @Param("now") LocalDateTime now,
+                    @Param("readHash") String readHash,
+                    @Param("newHash") String newHash);
 }
@@ -1,12 +1,15 @@
 package com.foodieblog.user;
 
+import com.foodieblog.auth.PasswordHasher;
+import com.foodieblog.auth.UserStatusCache;
 import com.foodieblog.common.error.BusinessException;
 import com.foodieblog.common.error.ErrorCode;
+import com.foodieblog.stats.live.LiveActivityMetrics;
+import com.foodieblog.stats.live.LiveMetric;
 import com.foodieblog.user.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,7 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LiveActivityMetrics liveActivityMetrics;
+    private final UserStatusCache userStatusCache;
 
     /** 1) 회원가입 */
     @Transactional
@@ -29,11 +34,12 @@ public class UserService {
 
         User saved = userRepository.save(User.builder()
                 .email(req.getEmail())
-                .passwordHash(passwordEncoder.encode(req.getPassword()))
+                .passwordHash(passwordHasher.encode(req.getPassword()))
                 .nickname(req.getNickname())
                 .role(User.Role.USER)
                 .build());
 
+        liveActivityMetrics.record(LiveMetric.SIGNUPS);
         return UserResponse.from(saved);
     }
 
@@ -73,11 +79,11 @@ public class UserService {
 
         if (!user.isActive()) throw new BusinessException(ErrorCode.USER_DEACTIVATED);
 
-        if (!passwordEncoder.matches(req.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(req.getCurrentPassword(), user.getPasswordHash())) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        user.changePasswordHash(passwordEncoder.encode(req.getNewPassword()));
+        user.changePasswordHash(passwordHasher.encode(req.getNewPassword()));
     }
 
     /** 5) ADMIN: 유저 목록(검색 + 페이지) */
@@ -108,6 +114,7 @@ public class UserService {
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.deactivate();
+        userStatusCache.invalidate(targetUserId);
     }
 
     /** 8) ADMIN: 활성화 */
@@ -116,6 +123,7 @@ public class UserService {
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.activate();
+        userStatusCache.invalidate(targetUserId);
     }
 
     /** 9) (선택) ADMIN: 역할 변경 */
@@ -127,6 +135,7 @@ public class UserService {
         try {
             User.Role role = User.Role.valueOf(req.getRole());
             user.changeRole(role);
+            userStatusCache.invalidate(targetUserId);
         } catch (IllegalArgumentException e) {
             throw new BusinessException(ErrorCode.BAD_REQUEST);
         }
@@ -0,0 +1,7 @@
+package com.foodieblog.user.dto;
+
+import com.foodieblog.user.User;
+
+/** 로그인 검증 + access token 발급에 필요한 컬럼만 (User 엔티티 로딩 없이 projection) */
+public record LoginCredential(Long userId, String passwordHash, boolean active,
+                              User.Role role, String email, String nickname) {}
@@ -0,0 +1,6 @@
+package com.foodieblog.user.dto;
+
+import com.foodieblog.user.User;
+
+/** access token 발급에 필요한 사용자 컬럼만 (User 엔티티 로딩 없이 projection) */
+public record TokenClaims(Long userId, User.Role role, String email, String nickname) {}
@@ -0,0 +1,6 @@
+package com.foodieblog.user.dto;
+
+import com.foodieblog.user.User;
+
+/** 요청 인증 시 확인하는 사용자 상태 (UserStatusCache 로딩용 projection) */
+public record UserStatus(boolean active, User.Role role) {}
@@ -0,0 +1,12 @@
+-- refresh token 원문 대신 SHA-256 digest(32byte) 로 저장/조회
+-- 기존 행은 원문 토큰이라 digest 로 옮길 수 없으므로 테이블을 새로 만든다 (기존 세션은 재로그인 필요)
+DROP TABLE IF EXISTS refresh_tokens;
+
+CREATE TABLE refresh_tokens (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  user_id BIGINT NOT NULL,
+  token_hash BINARY(32) NOT NULL,
+  expiry_at DATETIME(6) NOT NULL,
+  CONSTRAINT uk_refresh_tokens_user UNIQUE (user_id),
+  CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
@@ -0,0 +1,10 @@
+-- 폐기된 access token(jti) 목록 — 기동 시 메모리 denylist(Bloom filter) 재구성용
+-- 원래 만료 시각이 지난 행은 주기적으로 삭제
+CREATE TABLE revoked_tokens (
+  jti VARCHAR(36) PRIMARY KEY,
+  expires_at DATETIME(6) NOT NULL,
+  revoked_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
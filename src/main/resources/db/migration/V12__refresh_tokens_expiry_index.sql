@@ -0,0 +1,2 @@
+-- TtlJanitor 가 만료 행을 배치로 찾을 때 사용
+CREATE INDEX idx_refresh_tokens_expiry_at ON refresh_tokens (expiry_at);
@@ -0,0 +1,12 @@
+-- ratelimit.store=shared 일 때 레플리카 공용 사용량 (키 × 고정 창)
+-- 창이 끝난 행은 TtlJanitor 가 expires_at 기준으로 삭제
+CREATE TABLE rate_limit_windows (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  bucket_key BIGINT NOT NULL,
+  window_start BIGINT NOT NULL,
+  used BIGINT NOT NULL,
+  expires_at DATETIME(6) NOT NULL,
+  CONSTRAINT uk_rate_limit_windows_key_window UNIQUE (bucket_key, window_start)
+);
+
+CREATE INDEX idx_rate_limit_windows_expires_at ON rate_limit_windows (expires_at);
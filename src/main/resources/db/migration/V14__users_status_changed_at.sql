@@ -0,0 +1,4 @@
+-- 활성/비활성/역할 변경 시각 — 다른 인스턴스의 UserStatusCache 가 주기적으로 변경분만 가져가 무효화
+ALTER TABLE users ADD COLUMN status_changed_at DATETIME(6) NULL;
+
+CREATE INDEX idx_users_status_changed_at ON users (status_changed_at);
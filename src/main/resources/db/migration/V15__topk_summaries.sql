@@ -0,0 +1,14 @@
+-- (종류, 일자)별 heavy-hitters Space-Saving 요약 — 모든 인스턴스가 공유, 조회 시 구간 merge
+-- kind: authors | commenters | restaurants, 보관 기간이 지난 행은 TtlJanitor 가 expires_at 기준으로 삭제
+CREATE TABLE topk_summaries (
+  topk_summary_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  kind VARCHAR(16) NOT NULL,
+  stat_date DATE NOT NULL,
+  summary MEDIUMBLOB NOT NULL,
+  updated_at DATETIME NOT NULL,
+  expires_at DATETIME NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT uk_topk_summaries_kind_date UNIQUE (kind, stat_date)
+);
+
+CREATE INDEX idx_topk_summaries_expires_at ON topk_summaries (expires_at);
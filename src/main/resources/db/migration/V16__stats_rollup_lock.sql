@@ -0,0 +1,7 @@
+-- rollup(hourly/daily/monthly_stats) 쓰기 잠금 행 — delta 반영은 공유 잠금, 재계산(backfill)은 배타 잠금
+-- 재계산이 원본을 읽고 구간을 다시 쓰는 동안 어느 인스턴스의 delta 도 끼어들지 않게 한다
+CREATE TABLE stats_rollup_lock (
+  lock_id INT PRIMARY KEY
+);
+
+INSERT INTO stats_rollup_lock (lock_id) VALUES (1);
@@ -0,0 +1,3 @@
+-- 관리자 댓글 필터에서 postId 만 줄 때 (status 없이) createdAt 정렬까지 인덱스로 처리
+-- (post_id, status, created_at) 는 status 가 빠지면 created_at 순서를 보장하지 못함
+CREATE INDEX idx_comments_post_created ON comments (post_id, created_at);
@@ -0,0 +1,11 @@
+-- rollup 재계산 세대(epoch) — 원본 트랜잭션이 공유 잠금으로 읽은 epoch 를 delta 에 붙이고,
+-- 재계산은 배타 잠금 안에서 epoch 를 올리고 다시 쓴 구간을 남긴다
+-- → 반영 대기 중인 delta 중 이후 재계산 스냅샷에 이미 들어간 것(epoch 가 더 작고 구간 안)은 버린다
+ALTER TABLE stats_rollup_lock ADD COLUMN epoch BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE stats_rebuilds (
+  epoch BIGINT PRIMARY KEY,
+  range_start DATETIME NOT NULL,
+  range_end DATETIME NOT NULL,
+  rebuilt_at DATETIME NOT NULL
+);
@@ -0,0 +1,7 @@
+-- 여러 인스턴스가 같은 cron 에 깨어나는 배치 작업을 한 노드만 실행하기 위한 lease (TtlJanitor)
+-- lease_until 이 지난 행만 UPDATE 로 가져간다 → 가져간 노드만 실행, 나머지는 건너뜀
+CREATE TABLE job_leases (
+  name VARCHAR(64) PRIMARY KEY,
+  owner VARCHAR(64) NOT NULL,
+  lease_until DATETIME NOT NULL
+);
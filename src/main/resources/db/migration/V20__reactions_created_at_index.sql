@@ -0,0 +1,2 @@
+-- ReactedFilter.sync 가 다른 인스턴스에서 생긴 반응만 created_at 으로 가져감
+CREATE INDEX idx_reactions_created_at ON reactions (created_at);
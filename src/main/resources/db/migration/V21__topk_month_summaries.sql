@@ -0,0 +1,3 @@
+-- 월 요약: kind = '{kind}/m', stat_date = 그 달 1일 — TopKWindow.top 이 꽉 찬 달은 일 요약 대신 이 행을 merge
+-- source_fingerprint: 만들 때 쓴 일 요약들의 (일자, version) 합, 달라지면 조회 때 다시 만든다 (일 요약 행은 0)
+ALTER TABLE topk_summaries ADD COLUMN source_fingerprint BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+CREATE TABLE banned_terms (
+  banned_term_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  term VARCHAR(100) NOT NULL UNIQUE,
+  created_at DATETIME NOT NULL
+);
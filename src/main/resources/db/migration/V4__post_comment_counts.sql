@@ -0,0 +1,9 @@
+ALTER TABLE posts
+  ADD COLUMN visible_comment_count BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN total_comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET visible_comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.status = 'VISIBLE'),
+    total_comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id);
+
+CREATE INDEX idx_posts_visible_comment_count ON posts (visible_comment_count, post_id);
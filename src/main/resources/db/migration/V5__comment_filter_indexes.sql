@@ -0,0 +1,5 @@
+-- 관리자 댓글 필터 (CommentSpecifications) 조합별 인덱스
+-- postId(+status)+createdAt / authorId+createdAt / status+createdAt
+CREATE INDEX idx_comments_post_status_created ON comments (post_id, status, created_at);
+CREATE INDEX idx_comments_author_created ON comments (author_id, created_at);
+CREATE INDEX idx_comments_status_created ON comments (status, created_at);
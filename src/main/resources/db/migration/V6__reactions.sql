@@ -0,0 +1,20 @@
+CREATE TABLE reactions (
+  reaction_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  target_type VARCHAR(10) NOT NULL,
+  target_id BIGINT NOT NULL,
+  user_id BIGINT NOT NULL,
+  type VARCHAR(20) NOT NULL,
+  created_at DATETIME NOT NULL,
+  CONSTRAINT uk_reactions_target_user_type UNIQUE (target_type, target_id, user_id, type)
+);
+
+-- (대상, 종류)별 N개 shard 행
+CREATE TABLE reaction_counters (
+  reaction_counter_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  target_type VARCHAR(10) NOT NULL,
+  target_id BIGINT NOT NULL,
+  type VARCHAR(20) NOT NULL,
+  shard INT NOT NULL,
+  reaction_count BIGINT NOT NULL,
+  CONSTRAINT uk_reaction_counters_shard UNIQUE (target_type, target_id, type, shard)
+);
@@ -0,0 +1,10 @@
+-- 일자 × 카테고리 집계 (StatsService.daily 가 원본 테이블 대신 읽음)
+-- 과거 데이터는 POST /api/stats/daily/backfill 또는 --stats.backfill.days=N 으로 채움
+CREATE TABLE daily_stats (
+  daily_stat_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  stat_date DATE NOT NULL,
+  category_id BIGINT NOT NULL,
+  post_count BIGINT NOT NULL,
+  comment_count BIGINT NOT NULL,
+  CONSTRAINT uk_daily_stats_date_category UNIQUE (stat_date, category_id)
+);
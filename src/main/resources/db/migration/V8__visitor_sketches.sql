@@ -0,0 +1,11 @@
+-- (게시글, 일자)별 고유 방문자 HyperLogLog (post_id = 0 은 사이트 전체)
+-- sparse 형식은 수백 byte, dense 형식은 약 12KB
+CREATE TABLE visitor_sketches (
+  visitor_sketch_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  post_id BIGINT NOT NULL,
+  stat_date DATE NOT NULL,
+  sketch BLOB NOT NULL,
+  updated_at DATETIME NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT uk_visitor_sketches_post_date UNIQUE (post_id, stat_date)
+);
@@ -0,0 +1,20 @@
+-- 시간/월 단위 rollup (hourly_stats → daily_stats → monthly_stats)
+-- /api/stats/series 가 구간을 가장 적은 버킷 조합으로 읽는다
+-- 과거 데이터는 POST /api/stats/daily/backfill 로 세 단계 모두 채움
+CREATE TABLE hourly_stats (
+  hourly_stat_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  stat_hour DATETIME NOT NULL,
+  category_id BIGINT NOT NULL,
+  post_count BIGINT NOT NULL,
+  comment_count BIGINT NOT NULL,
+  CONSTRAINT uk_hourly_stats_hour_category UNIQUE (stat_hour, category_id)
+);
+
+CREATE TABLE monthly_stats (
+  monthly_stat_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  stat_month DATE NOT NULL,
+  category_id BIGINT NOT NULL,
+  post_count BIGINT NOT NULL,
+  comment_count BIGINT NOT NULL,
+  CONSTRAINT uk_monthly_stats_month_category UNIQUE (stat_month, category_id)
+);
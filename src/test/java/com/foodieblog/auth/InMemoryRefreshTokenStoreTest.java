@@ -0,0 +1,85 @@
+package com.foodieblog.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메모리 refresh token 저장소의 1유저 1토큰 / digest 소유권 확인
+ * - 같은 초에 발급된 토큰이 digest 로 겹치지 않는지도 JwtProvider 로 함께 확인
+ */
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-store-0123456789";
+
+    private InMemoryRefreshTokenStore store;
+    private Instant expiry;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(1000, 64);
+        expiry = Instant.now().plus(1, ChronoUnit.HOURS);
+    }
+
+    @Test
+    void replaceKeepsOneTokenPerUser() {
+        byte[] first = TokenDigest.sha256("first");
+        byte[] second = TokenDigest.sha256("second");
+
+        store.replace(1L, first, expiry);
+        store.replace(1L, second, expiry);
+
+        assertThat(store.find(first)).isEmpty();
+        assertThat(store.find(second)).hasValueSatisfying(s -> assertThat(s.userId()).isEqualTo(1L));
+    }
+
+    @Test
+    void digestOwnedByAnotherUserIsNotOverwritten() {
+        byte[] digest = TokenDigest.sha256("same");
+        store.replace(1L, digest, expiry);
+
+        assertThatThrownBy(() -> store.replace(2L, digest, expiry)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.find(digest)).hasValueSatisfying(s -> assertThat(s.userId()).isEqualTo(1L));
+        store.deleteByUserId(2L);
+        assertThat(store.find(digest)).isPresent();
+    }
+
+    @Test
+    void sameUserCanReplaceWithSameDigest() {
+        byte[] digest = TokenDigest.sha256("same");
+        store.replace(1L, digest, expiry);
+        store.replace(1L, digest, expiry.plusSeconds(60));
+
+        assertThat(store.find(digest)).hasValueSatisfying(s -> assertThat(s.expiryAt()).isEqualTo(expiry.plusSeconds(60)));
+    }
+
+    @Test
+    void deleteRemovesBothIndexes() {
+        byte[] digest = TokenDigest.sha256("token");
+        store.replace(1L, digest, expiry);
+
+        store.delete(digest);
+        assertThat(store.find(digest)).isEmpty();
+
+        // byUser 에서도 빠졌으므로 같은 digest 를 다른 사용자가 받아도 충돌 없음
+        store.replace(2L, digest, expiry);
+        assertThat(store.find(digest)).hasValueSatisfying(s -> assertThat(s.userId()).isEqualTo(2L));
+    }
+
+    @Test
+    void refreshTokensIssuedInSameSecondDiffer() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 3_600_000);
+
+        String a = jwtProvider.generateRefreshToken();
+        String b = jwtProvider.generateRefreshToken();
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(TokenDigest.sha256(a)).isNotEqualTo(TokenDigest.sha256(b));
+    }
+}
@@ -0,0 +1,110 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.common.error.BusinessException;
+import com.foodieblog.common.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * email 단위 sliding window 실패 수와 잠금 단계 확인 (시각은 직접 넘긴다)
+ * - max-failures 3, window 60s, 첫 잠금 30s (이후 2배씩), 최대 1h
+ */
+class LoginThrottleTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final long T0 = 1_000_000_000L;
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle(new SimpleMeterRegistry(), 3, 60, 30, 3600, 1024);
+    }
+
+    @Test
+    void locksAtMaxFailuresUntilLockExpires() {
+        fail(T0, T0 + 1);
+        assertOpen(T0 + 2);
+
+        fail(T0 + 3);
+        assertLocked(T0 + 4);
+        assertLocked(T0 + 3 + 29_999);
+        assertOpen(T0 + 3 + 30_000);
+    }
+
+    @Test
+    void emailIsNormalized() {
+        fail(T0, T0 + 1);
+        throttle.recordFailure("  USER@Example.com ", T0 + 2);
+        assertLocked(T0 + 3);
+    }
+
+    @Test
+    void previousWindowCountsWithRemainingWeight() {
+        fail(T0, T0 + 1);
+
+        // 새 창에 1/4 들어온 시점 → 직전 창(2회)은 3/4 가중: 1.5 + 1 = 2.5 (잠금 아님, 가중 없이 더하면 3)
+        long t = T0 + 75_000;
+        fail(t);
+        assertOpen(t + 1);
+
+        // 1.5 + 2 = 3.5 → 잠금 (직전 창을 버렸다면 2)
+        fail(t + 2);
+        assertLocked(t + 3);
+    }
+
+    @Test
+    void failuresOlderThanTwoWindowsAreForgotten() {
+        fail(T0, T0 + 1);
+
+        long t = T0 + 121_000;
+        fail(t, t + 1);
+        assertOpen(t + 2);
+    }
+
+    @Test
+    void repeatedLockoutsDoubleTheLock() {
+        fail(T0, T0 + 1, T0 + 2);
+        assertOpen(T0 + 2 + 30_000);
+
+        long t = T0 + 2 + 30_000;
+        fail(t, t + 1, t + 2);
+        assertLocked(t + 2 + 59_999);
+        assertOpen(t + 2 + 60_000);
+    }
+
+    @Test
+    void successClearsFailures() {
+        fail(T0, T0 + 1);
+        throttle.recordSuccess(EMAIL);
+
+        fail(T0 + 2, T0 + 3);
+        assertOpen(T0 + 4);
+    }
+
+    @Test
+    void otherAccountsAreNotAffected() {
+        fail(T0, T0 + 1, T0 + 2);
+        assertLocked(T0 + 3);
+        assertThatCode(() -> throttle.check("other@example.com", T0 + 3)).doesNotThrowAnyException();
+    }
+
+    private void fail(long... times) {
+        for (long t : times) throttle.recordFailure(EMAIL, t);
+    }
+
+    private void assertLocked(long now) {
+        assertThatThrownBy(() -> throttle.check(EMAIL, now))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private void assertOpen(long now) {
+        assertThatCode(() -> throttle.check(EMAIL, now)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,86 @@
+package com.foodieblog.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bloom 음성 → 바로 통과, 양성 → exact set 확인 (오탐이면 통과, 폐기면 차단)
+ * - 오탐 경로: 64bit 짜리 filter 를 가득 채워 폐기하지 않은 jti 도 양성이 나오게 한다
+ */
+class TokenDenylistTest {
+
+    private static final long HOUR_MS = 3_600_000L;
+
+    private RevokedTokenRepository repository;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void revokedTokenIsBlockedAndOthersPass() {
+        TokenDenylist denylist = new TokenDenylist(repository, registry, HOUR_MS, 100_000, 0.001);
+        denylist.revoke("revoked-jti", System.currentTimeMillis() + HOUR_MS);
+
+        assertThat(denylist.isRevoked("revoked-jti")).isTrue();
+        assertThat(denylist.isRevoked("other-jti")).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+        assertThat(checks("revoked")).isEqualTo(1.0);
+        verify(repository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void bloomFalsePositiveIsConfirmedAgainstExactSet() {
+        // 예상 1건, fpp 0.5 → 64bit, 해시 1개
+        TokenDenylist denylist = new TokenDenylist(repository, registry, HOUR_MS, 1, 0.5);
+        long expiresAt = System.currentTimeMillis() + HOUR_MS;
+        for (int i = 0; i < 500; i++) {
+            denylist.revoke("revoked-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 100 && checks("false_positive") == 0; i++) {
+            assertThat(denylist.isRevoked("live-" + i)).isFalse();
+        }
+        assertThat(checks("false_positive")).isPositive();
+        assertThat(denylist.isRevoked("revoked-7")).isTrue();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenDenylist denylist = new TokenDenylist(repository, registry, HOUR_MS, 100_000, 0.001);
+        denylist.revoke("old-jti", System.currentTimeMillis() - 1);
+
+        assertThat(denylist.isRevoked("old-jti")).isFalse();
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void syncPicksUpRevocationsFromOtherInstances() {
+        TokenDenylist denylist = new TokenDenylist(repository, registry, HOUR_MS, 100_000, 0.001);
+        RevokedToken row = RevokedToken.builder()
+                .jti("remote-jti")
+                .expiresAt(Instant.now().plusMillis(HOUR_MS))
+                .revokedAt(Instant.now())
+                .build();
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(row));
+
+        assertThat(denylist.isRevoked("remote-jti")).isFalse();
+        denylist.sync();
+        assertThat(denylist.isRevoked("remote-jti")).isTrue();
+    }
+
+    private double checks(String result) {
+        return registry.get("auth.denylist.checks").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,109 @@
+package com.foodieblog.auth;
+
+import com.foodieblog.user.User;
+import com.foodieblog.user.UserRepository;
+import com.foodieblog.user.dto.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 캐시 적중/무효화 — 로딩 중 무효화(epoch), 커밋 이후 한 번 더 무효화, 다른 인스턴스 변경분 sync
+ */
+class UserStatusCacheTest {
+
+    private static final UserStatus ACTIVE_USER = new UserStatus(true, User.Role.USER);
+    private static final UserStatus INACTIVE_USER = new UserStatus(false, User.Role.USER);
+
+    private UserRepository userRepository;
+    private UserStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        cache = new UserStatusCache(userRepository, new SimpleMeterRegistry(), 1_000, 600);
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        when(userRepository.findStatus(1L)).thenReturn(Optional.of(ACTIVE_USER));
+
+        long first = cache.get(1L);
+        long second = cache.get(1L);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(UserStatusCache.exists(first)).isTrue();
+        assertThat(UserStatusCache.isActive(first)).isTrue();
+        assertThat(UserStatusCache.roleName(first)).isEqualTo("USER");
+        verify(userRepository, times(1)).findStatus(1L);
+    }
+
+    @Test
+    void missingUserIsCachedAsNotFound() {
+        when(userRepository.findStatus(2L)).thenReturn(Optional.empty());
+
+        assertThat(UserStatusCache.exists(cache.get(2L))).isFalse();
+        assertThat(UserStatusCache.exists(cache.get(2L))).isFalse();
+        verify(userRepository, times(1)).findStatus(2L);
+    }
+
+    @Test
+    void invalidationDuringLoadKeepsValueOutOfCache() {
+        // 조회 도중 다른 스레드가 비활성화 → 읽어 온 (옛) 값은 이번 요청에만 쓰인다
+        when(userRepository.findStatus(1L))
+                .thenAnswer(inv -> {
+                    cache.invalidate(1L);
+                    return Optional.of(ACTIVE_USER);
+                })
+                .thenReturn(Optional.of(INACTIVE_USER));
+
+        assertThat(UserStatusCache.isActive(cache.get(1L))).isTrue();
+        assertThat(UserStatusCache.isActive(cache.get(1L))).isFalse();
+        verify(userRepository, times(2)).findStatus(1L);
+    }
+
+    @Test
+    void invalidateEvictsAgainAfterCommit() {
+        when(userRepository.findStatus(1L))
+                .thenReturn(Optional.of(ACTIVE_USER), Optional.of(INACTIVE_USER));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(1L);
+            // 커밋 전에 다른 요청이 옛 값을 다시 캐시
+            assertThat(UserStatusCache.isActive(cache.get(1L))).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(UserStatusCache.isActive(cache.get(1L))).isFalse();
+    }
+
+    @Test
+    void syncEvictsUsersChangedOnOtherInstances() {
+        when(userRepository.findStatus(anyLong()))
+                .thenReturn(Optional.of(ACTIVE_USER));
+        cache.get(1L);
+        cache.get(2L);
+        when(userRepository.findStatusChangedSince(any(LocalDateTime.class))).thenReturn(List.of(2L));
+
+        cache.sync();
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(userRepository, times(1)).findStatus(1L);
+        verify(userRepository, times(2)).findStatus(2L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.foodieblog.comment.spam;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금칙어 매처 — fail 링크를 따라가야 잡히는 겹침/접미사 패턴과 정규화 확인
+ */
+class AhoCorasickMatcherTest {
+
+    @Test
+    void findsTermsAnywhereIgnoringCase() {
+        AhoCorasickMatcher m = AhoCorasickMatcher.compile(List.of("spam", "광고"));
+
+        assertThat(m.matches("this is SPAM!")).isTrue();
+        assertThat(m.matches("무료광고 문의")).isTrue();
+        assertThat(m.matches("spa m")).isFalse();
+        assertThat(m.matches("맛집 추천")).isFalse();
+    }
+
+    @Test
+    void followsFailLinksOnPartialMatch() {
+        // "she" 를 따라가다 끊겨도 접미사 "he"/"hers" 쪽으로 이어져야 한다
+        AhoCorasickMatcher m = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(m.matches("ushers")).isTrue();
+        assertThat(m.matches("shx he")).isTrue();
+        assertThat(m.matches("ahis")).isTrue();
+        assertThat(m.matches("shs hs")).isFalse();
+    }
+
+    @Test
+    void termContainedInLongerTermMatchesOnItsOwn() {
+        // 긴 단어 경로 중간에 짧은 금칙어가 끝나는 경우 (output 전파)
+        AhoCorasickMatcher m = AhoCorasickMatcher.compile(List.of("abcd", "bc"));
+
+        assertThat(m.matches("xabcx")).isTrue();
+        assertThat(m.matches("abd")).isFalse();
+    }
+
+    @Test
+    void blankAndDuplicateTermsAreIgnored() {
+        AhoCorasickMatcher m = AhoCorasickMatcher.compile(Arrays.asList(" Spam ", "spam", "", "  ", null));
+
+        assertThat(m.termCount()).isEqualTo(1);
+        assertThat(m.matches("no spam here")).isTrue();
+    }
+
+    @Test
+    void emptyMatcherNeverMatches() {
+        assertThat(AhoCorasickMatcher.empty().matches("anything")).isFalse();
+        assertThat(AhoCorasickMatcher.compile(List.of("x")).matches(null)).isFalse();
+    }
+}
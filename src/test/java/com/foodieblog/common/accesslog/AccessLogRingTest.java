@@ -0,0 +1,119 @@
+package com.foodieblog.common.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 접근 로그 ring buffer: 순서대로 공개된 것만 소비, 가득 차면 덮어쓰지 않고 거절
+ */
+class AccessLogRingTest {
+
+    @Test
+    void capacityMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new AccessLogRing(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void drainsPublishedEventsInOrder() {
+        AccessLogRing ring = new AccessLogRing(8);
+        for (int i = 0; i < 5; i++) write(ring, i);
+
+        List<Integer> statuses = new ArrayList<>();
+        assertThat(ring.drain(slot -> statuses.add(ring.statuses[slot]), 3)).isEqualTo(3);
+        assertThat(ring.drain(slot -> statuses.add(ring.statuses[slot]), 100)).isEqualTo(2);
+
+        assertThat(statuses).containsExactly(0, 1, 2, 3, 4);
+        assertThat(ring.backlog()).isZero();
+    }
+
+    @Test
+    void unpublishedSlotBlocksLaterOnes() {
+        AccessLogRing ring = new AccessLogRing(8);
+        long first = ring.tryClaim();
+        write(ring, 1);
+
+        // 먼저 잡힌 칸이 공개 전이면 뒤 칸이 공개돼 있어도 소비하지 않는다
+        assertThat(ring.drain(slot -> { }, 10)).isZero();
+
+        ring.statuses[ring.slot(first)] = 0;
+        ring.publish(first);
+        List<Integer> statuses = new ArrayList<>();
+        ring.drain(slot -> statuses.add(ring.statuses[slot]), 10);
+        assertThat(statuses).containsExactly(0, 1);
+    }
+
+    @Test
+    void fullRingRejectsUntilConsumed() {
+        AccessLogRing ring = new AccessLogRing(4);
+        for (int i = 0; i < 4; i++) write(ring, i);
+
+        assertThat(ring.tryClaim()).isEqualTo(-1L);
+        assertThat(ring.backlog()).isEqualTo(4);
+
+        ring.drain(slot -> { }, 1);
+        assertThat(ring.tryClaim()).isEqualTo(4L);
+    }
+
+    @Test
+    void concurrentProducersLoseNothingWhileConsumerKeepsUp() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AccessLogRing ring = new AccessLogRing(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; ) {
+                    long seq = ring.tryClaim();
+                    if (seq < 0) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    ring.userIds[ring.slot(seq)] = producer;
+                    ring.latencyMicros[ring.slot(seq)] = i;
+                    ring.publish(seq);
+                    i++;
+                }
+                return null;
+            });
+        }
+
+        long[] nextPerProducer = new long[producers];
+        boolean[] inOrder = {true};
+        int total = producers * perProducer;
+        int consumed = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (consumed < total && System.nanoTime() < deadline) {
+            consumed += ring.drain(slot -> {
+                int producer = (int) ring.userIds[slot];
+                // 같은 생산자의 이벤트는 기록한 순서대로 나온다
+                if (ring.latencyMicros[slot] != nextPerProducer[producer]) inOrder[0] = false;
+                nextPerProducer[producer]++;
+            }, 256);
+        }
+        pool.shutdown();
+
+        assertThat(consumed).isEqualTo(total);
+        assertThat(inOrder[0]).isTrue();
+        assertThat(nextPerProducer).containsOnly(perProducer);
+    }
+
+    private static void write(AccessLogRing ring, int status) {
+        long seq = ring.tryClaim();
+        ring.statuses[ring.slot(seq)] = status;
+        ring.publish(seq);
+    }
+}
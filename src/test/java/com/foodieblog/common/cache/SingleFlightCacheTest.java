@@ -0,0 +1,105 @@
+package com.foodieblog.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 miss 합치기, fresh/stale 구간, 실패 비캐시 확인
+ * - 백그라운드 갱신은 호출 스레드에서 바로 실행하는 executor 로 결정적으로 확인
+ */
+class SingleFlightCacheTest {
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>("t", 60_000, 0, 16, Runnable::run);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = pool.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 42;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> second = pool.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                return -1;
+            }));
+
+            // 두 번째 요청이 합류할 시간을 준 뒤 첫 계산을 끝낸다
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(loads).hasValue(1);
+            assertThat(cache.stats().coalesced()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void freshValueIsReturnedWithoutLoading() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>("t", 60_000, 0, 16, Runnable::run);
+
+        assertThat(cache.get("k", () -> 1)).isEqualTo(1);
+        assertThat(cache.get("k", () -> 2)).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void staleValueIsServedWhileRefreshing() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>("t", 0, 60_000, 16, Runnable::run);
+
+        assertThat(cache.get("k", () -> 1)).isEqualTo(1);
+        // ttl 0 → 바로 stale: 이전 값을 반환하고 갱신은 executor 에서
+        assertThat(cache.get("k", () -> 2)).isEqualTo(1);
+        assertThat(cache.stats().refreshes()).isEqualTo(1);
+        assertThat(cache.get("k", () -> 3)).isEqualTo(2);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>("t", 60_000, 0, 16, Runnable::run);
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("k", () -> 7)).isEqualTo(7);
+        assertThat(cache.stats().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void oldestEntryIsEvictedWhenFull() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>("t", 60_000, 0, 2, Runnable::run);
+        cache.get("a", () -> 1);
+        cache.get("b", () -> 2);
+        cache.get("c", () -> 3);
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.get("a", () -> 10)).isEqualTo(10);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.foodieblog.common.datasource;
+
+import com.foodieblog.auth.RefreshTokenStore;
+import com.foodieblog.auth.TokenDigest;
+import com.foodieblog.auth.UserStatusCache;
+import com.foodieblog.user.User;
+import com.foodieblog.user.UserRepository;
+import com.foodieblog.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 라우팅을 켠 상태에서 인증 관련 조회가 primary 로만 가는지 확인
+ * - replica 는 primary 와 같은 H2 DB (스키마 공유), 어디로 갔는지는 datasource.routing{target} 지표로 판단
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.lag-query=SELECT 0"
+})
+@ActiveProfiles("test")
+class PrimaryPinnedLookupTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserStatusCache userStatusCache;
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("pinned-" + System.nanoTime() + "@example.com")
+                .passwordHash("x")
+                .nickname("pinned-" + System.nanoTime())
+                .role(User.Role.USER)
+                .build());
+        userId = user.getUserId();
+        assertThat(replicaLagMonitor.isUsable()).isTrue();
+    }
+
+    @Test
+    void plainReadOnlyRepositoryCallGoesToReplica() {
+        double before = replicaRoutes();
+        userRepository.findById(userId);
+        assertThat(replicaRoutes()).isGreaterThan(before);
+    }
+
+    @Test
+    void userStatusLookupAfterDeactivationReadsPrimary() {
+        assertThat(UserStatusCache.isActive(userStatusCache.get(userId))).isTrue();
+
+        userService.adminDeactivate(userId);
+
+        double before = replicaRoutes();
+        assertThat(UserStatusCache.isActive(userStatusCache.get(userId))).isFalse();
+        userStatusCache.sync();
+        assertThat(replicaRoutes()).isEqualTo(before);
+    }
+
+    @Test
+    void refreshTokenLookupReadsPrimary() {
+        byte[] hash = TokenDigest.sha256("pinned-refresh-" + userId);
+        refreshTokenStore.replace(userId, hash, Instant.now().plusSeconds(60));
+
+        double before = replicaRoutes();
+        assertThat(refreshTokenStore.find(hash)).isPresent();
+        refreshTokenStore.delete(hash);
+        assertThat(refreshTokenStore.find(hash)).isEmpty();
+        assertThat(replicaRoutes()).isEqualTo(before);
+    }
+
+    private double replicaRoutes() {
+        return meterRegistry.get("datasource.routing").tag("target", "replica").counter().count();
+    }
+}
@@ -0,0 +1,165 @@
+package com.foodieblog.common.datasource;
+
+import com.foodieblog.auth.JwtAuthFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2(MySQL 모드) 인스턴스를 primary/replica 로 두고 라우팅 확인
+ * - 각 DB 의 marker 테이블에 자기 이름을 넣어 두고, 읽힌 값으로 어느 쪽에 갔는지 판단
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long STICKY_MS = 200;
+
+    private JdbcDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag", 2000, 60_000, meterRegistry);
+        lagMonitor.check();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replica, lagMonitor, new ReadYourWrites(STICKY_MS), meterRegistry));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionAndNonTransactionalAccessGoToPrimary() {
+        assertThat(readWrite.execute(s -> marker())).isEqualTo("primary");
+        assertThat(marker()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+        setReplicaLagSeconds(5);
+        assertThat(lagMonitor.isUsable()).isFalse();
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("primary");
+
+        setReplicaLagSeconds(0.5);
+        assertThat(lagMonitor.isUsable()).isTrue();
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("replica");
+    }
+
+    @Test
+    void failedLagCheckFallsBackToPrimary() {
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.lagMillis()).isEqualTo(-1);
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("primary");
+    }
+
+    @Test
+    void staleLagReadingIsNotUsable() throws InterruptedException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                replica, "SELECT seconds FROM replica_lag", 2000, 50, new SimpleMeterRegistry());
+        monitor.check();
+        assertThat(monitor.isUsable()).isTrue();
+
+        // 확인이 멈추면 (공용 스케줄러가 막히는 등) 2 × 주기 뒤부터 사용 불가
+        Thread.sleep(150);
+        assertThat(monitor.isUsable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isUsable()).isTrue();
+    }
+
+    @Test
+    void startedMonitorKeepsCheckingOnItsOwnThread() throws InterruptedException {
+        try (ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                replica, "SELECT seconds FROM replica_lag", 2000, 50, new SimpleMeterRegistry())) {
+            monitor.check();
+            monitor.start();
+
+            Thread.sleep(300);
+            assertThat(monitor.isUsable()).isTrue();
+
+            setReplicaLagSeconds(5);
+            Thread.sleep(200);
+            assertThat(monitor.isUsable()).isFalse();
+        }
+    }
+
+    @Test
+    void writerReadsFromPrimaryWithinStickyWindow() throws InterruptedException {
+        authenticate(1L);
+        readWrite.executeWithoutResult(s -> jdbcTemplate.update("UPDATE marker SET name = name"));
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("primary");
+
+        // 다른 사용자/비로그인은 영향 없음
+        authenticate(2L);
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("replica");
+        SecurityContextHolder.clearContext();
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("replica");
+
+        authenticate(1L);
+        Thread.sleep(STICKY_MS * 2);
+        assertThat(readOnly.execute(s -> marker())).isEqualTo("replica");
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private void setReplicaLagSeconds(double seconds) {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = ?", seconds);
+        lagMonitor.check();
+    }
+
+    private static void authenticate(long userId) {
+        var principal = new JwtAuthFilter.AuthPrincipal(userId, "user" + userId + "@example.com", "user" + userId, "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        ds.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(ds);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(16))");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        return ds;
+    }
+}
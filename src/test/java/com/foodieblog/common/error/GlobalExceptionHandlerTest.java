@@ -0,0 +1,71 @@
+package com.foodieblog.common.error;
+
+import com.foodieblog.common.loadshed.ConcurrencyLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀 대기 초과가 어느 경로로 오든 503 + 과부하 표시, 그 밖의 DB 예외는 500
+ * - replica 라우팅(LazyConnectionDataSourceProxy)에선 첫 쿼리에서 DataAccessException 으로 온다
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void poolTimeoutAtTransactionBeginIs503() {
+        MockHttpServletRequest request = request();
+        ResponseEntity<ErrorResponse> response = handler.handlePoolExhausted(
+                new CannotCreateTransactionException("Could not open JPA EntityManager", poolTimeout()), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(request.getAttribute(ConcurrencyLimitFilter.OVERLOAD_ATTR)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void poolTimeoutAtFirstStatementIs503() {
+        MockHttpServletRequest request = request();
+        ResponseEntity<ErrorResponse> response = handler.handleDatabase(
+                new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", poolTimeout()), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(request.getAttribute(ConcurrencyLimitFilter.OVERLOAD_ATTR)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void nestedPoolTimeoutIs503() {
+        MockHttpServletRequest request = request();
+        RuntimeException hibernate = new RuntimeException("Unable to acquire JDBC Connection", poolTimeout());
+        ResponseEntity<ErrorResponse> response = handler.handleDatabase(
+                new DataAccessResourceFailureException("Unable to acquire JDBC Connection", hibernate), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+    }
+
+    @Test
+    void otherDatabaseErrorsStay500() {
+        MockHttpServletRequest request = request();
+        ResponseEntity<ErrorResponse> response = handler.handleDatabase(
+                new DataIntegrityViolationException("duplicate key"), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+        assertThat(request.getAttribute(ConcurrencyLimitFilter.OVERLOAD_ATTR)).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/posts");
+    }
+
+    private static SQLTransientConnectionException poolTimeout() {
+        return new SQLTransientConnectionException("primary - Connection is not available, request timed out after 3000ms.");
+    }
+}
@@ -0,0 +1,114 @@
+package com.foodieblog.common.loadshed;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 우선순위별 몫과 backoff 신호 확인
+ * - limit 20, normal 0.9 → 18, low 0.6 → 12
+ * - window 0ms / min-samples 1 → release 마다 window 를 닫아 limit 변화를 바로 본다
+ */
+class ConcurrencyLimiterTest {
+
+    @Test
+    void prioritiesGetTheirShareOfLimit() {
+        ConcurrencyLimiter limiter = limiter(60_000);
+
+        assertThat(acquireUntilRejected(limiter, ConcurrencyLimiter.Priority.LOW)).isEqualTo(12);
+        assertThat(acquireUntilRejected(limiter, ConcurrencyLimiter.Priority.NORMAL)).isEqualTo(6);
+        assertThat(acquireUntilRejected(limiter, ConcurrencyLimiter.Priority.HIGH)).isEqualTo(2);
+        assertThat(limiter.inflight()).isEqualTo(20);
+
+        // 헬스체크는 한도와 무관
+        assertThat(limiter.tryAcquire(ConcurrencyLimiter.Priority.CRITICAL)).isTrue();
+        assertThat(limiter.inflight()).isEqualTo(21);
+    }
+
+    @Test
+    void droppedRequestBacksOffDownToMinLimit() {
+        ConcurrencyLimiter limiter = limiter(0);
+
+        acquireAndRelease(limiter, true);
+        assertThat(limiter.limit()).isEqualTo(18);
+
+        for (int i = 0; i < 50; i++) {
+            acquireAndRelease(limiter, true);
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void idleWindowDoesNotGrowLimit() {
+        ConcurrencyLimiter limiter = limiter(0);
+
+        for (int i = 0; i < 50; i++) {
+            acquireAndRelease(limiter, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void onlyDownstreamSaturationCountsAsOverload() throws Exception {
+        ConcurrencyLimiter limiter = limiter(0);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter);
+
+        // BCrypt 해시 큐 거절 같은 503 은 limit 에 영향 없음
+        run(filter, (req, res) -> ((HttpServletResponse) res).setStatus(503));
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        // 커넥션 풀 대기 초과 (예외 처리기가 표시)
+        run(filter, (req, res) -> {
+            req.setAttribute(ConcurrencyLimitFilter.OVERLOAD_ATTR, Boolean.TRUE);
+            ((HttpServletResponse) res).setStatus(503);
+        });
+        assertThat(limiter.limit()).isEqualTo(18);
+
+        run(filter, (req, res) -> ((HttpServletResponse) res).setStatus(504));
+        assertThat(limiter.limit()).isEqualTo(16);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void rejectedRequestGets503WithoutRunningChain() throws Exception {
+        ConcurrencyLimiter limiter = limiter(60_000);
+        acquireUntilRejected(limiter, ConcurrencyLimiter.Priority.HIGH);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean[] ran = {false};
+        new ConcurrencyLimitFilter(limiter).doFilter(request, response, (req, res) -> ran[0] = true);
+
+        assertThat(ran[0]).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    private static ConcurrencyLimiter limiter(long windowMillis) {
+        return new ConcurrencyLimiter(new SimpleMeterRegistry(), true, 20, 10, 200, windowMillis, 1, 1.5, 0.2, 0.9, 0.6);
+    }
+
+    private static int acquireUntilRejected(ConcurrencyLimiter limiter, ConcurrencyLimiter.Priority priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    private static void acquireAndRelease(ConcurrencyLimiter limiter, boolean dropped) {
+        assertThat(limiter.tryAcquire(ConcurrencyLimiter.Priority.HIGH)).isTrue();
+        limiter.release(System.nanoTime(), dropped);
+    }
+
+    private static void run(ConcurrencyLimitFilter filter, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
@@ -0,0 +1,67 @@
+package com.foodieblog.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 허용/거절 경계와 슬롯 packing(지문 16bit + TAT 48bit) 확인
+ * - 시간은 실제 시계라 테스트 도중 흐른 µs 만큼의 오차는 허용 범위로 둔다
+ */
+class GcraLimiterTest {
+
+    // 60초에 10개 → emission 6s, tolerance 60s
+    private static final RateLimitQuota QUOTA = new RateLimitQuota(10, 60_000);
+
+    @Test
+    void burstUpToLimitThenRetryAfterOneEmission() {
+        GcraLimiter limiter = new GcraLimiter(1024);
+        for (int i = 0; i < QUOTA.limit(); i++) {
+            assertThat(acquire(limiter, 1L, 1)).isZero();
+        }
+
+        long retry = acquire(limiter, 1L, 1);
+        assertThat(retry).isPositive().isLessThanOrEqualTo(QUOTA.emissionMicros());
+        assertThat(retry).isGreaterThan(QUOTA.emissionMicros() - 1_000_000L);
+    }
+
+    @Test
+    void costLargerThanRemainingToleranceIsRejectedWithoutConsuming() {
+        GcraLimiter limiter = new GcraLimiter(1024);
+        assertThat(acquire(limiter, 1L, QUOTA.limit() - 2)).isZero();
+
+        assertThat(acquire(limiter, 1L, 3)).isPositive();
+        // 거절은 상태를 바꾸지 않으므로 남은 2개는 그대로
+        assertThat(acquire(limiter, 1L, 2)).isZero();
+        assertThat(acquire(limiter, 1L, 1)).isPositive();
+    }
+
+    @Test
+    void keysDoNotShareState() {
+        GcraLimiter limiter = new GcraLimiter(16);
+        for (int i = 0; i < QUOTA.limit(); i++) acquire(limiter, 1L, 1);
+        assertThat(acquire(limiter, 1L, 1)).isPositive();
+
+        // 같은 작은 테이블 안의 다른 키들은 각자 버스트 전체를 쓴다
+        for (long key = 2; key <= 8; key++) {
+            for (int i = 0; i < QUOTA.limit(); i++) {
+                assertThat(acquire(limiter, key, 1)).as("key %d #%d", key, i).isZero();
+            }
+            assertThat(acquire(limiter, key, 1)).isPositive();
+        }
+        assertThat(acquire(limiter, 1L, 1)).isPositive();
+    }
+
+    @Test
+    void fullTableEvictsInsteadOfFailing() {
+        // 최소 크기 테이블(탐색 8칸)에 그보다 많은 키 → 가득 차도 새 키는 허용 (가장 덜 제한된 슬롯을 덮어씀)
+        GcraLimiter limiter = new GcraLimiter(8);
+        for (long key = 1; key <= 64; key++) {
+            assertThat(acquire(limiter, key, 1)).isZero();
+        }
+    }
+
+    private static long acquire(GcraLimiter limiter, long key, int cost) {
+        return limiter.tryAcquire(key, cost, QUOTA.emissionMicros(), QUOTA.toleranceMicros());
+    }
+}
@@ -0,0 +1,103 @@
+package com.foodieblog.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 우선순위(리터럴 > 한 세그먼트 > "**")는 선언 순서와 무관, 막힌 가지에서는 되돌아가 다음 후보
+ * - 같은 노드의 후보끼리는 method/queryParam 조건을 보고 선언 순서대로
+ */
+class RouteMatcherTest {
+
+    private static final RateLimitQuota QUOTA = new RateLimitQuota(10, 60_000);
+
+    @Test
+    void literalBeatsVariableRegardlessOfOrder() {
+        List<RoutePolicy> p = policies("/api/posts/{id}", "/api/posts/search");
+        RouteMatcher matcher = new RouteMatcher(p);
+
+        assertThat(matcher.match(get("/api/posts/search"), "/api/posts/search")).isSameAs(p.get(1));
+        assertThat(matcher.match(get("/api/posts/42"), "/api/posts/42")).isSameAs(p.get(0));
+    }
+
+    @Test
+    void singleSegmentBeatsDoubleStarAndBacktracksWhenDeeperFails() {
+        List<RoutePolicy> p = policies("/api/**", "/api/posts/{id}");
+        RouteMatcher matcher = new RouteMatcher(p);
+
+        assertThat(matcher.match(get("/api/posts/3"), "/api/posts/3")).isSameAs(p.get(1));
+        // posts/{id} 아래에 더 없음 → "/api/**" 로 되돌아감
+        assertThat(matcher.match(get("/api/posts/3/comments"), "/api/posts/3/comments")).isSameAs(p.get(0));
+        // "**" 는 0개 세그먼트도 포함
+        assertThat(matcher.match(get("/api"), "/api")).isSameAs(p.get(0));
+    }
+
+    @Test
+    void deadEndLiteralFallsBackToVariableBranch() {
+        List<RoutePolicy> p = policies("/api/posts/search/recent", "/api/posts/{id}/comments");
+        RouteMatcher matcher = new RouteMatcher(p);
+
+        assertThat(matcher.match(get("/api/posts/search/comments"), "/api/posts/search/comments")).isSameAs(p.get(1));
+        assertThat(matcher.match(get("/api/posts/search/other"), "/api/posts/search/other")).isNull();
+    }
+
+    @Test
+    void methodFiltersCandidatesOnSameNode() {
+        List<RoutePolicy> p = List.of(
+                policy(0, "/api/posts", "POST", null),
+                policy(1, "/api/posts", null, null));
+        RouteMatcher matcher = new RouteMatcher(p);
+
+        assertThat(matcher.match(request("POST", "/api/posts"), "/api/posts")).isSameAs(p.get(0));
+        assertThat(matcher.match(get("/api/posts"), "/api/posts")).isSameAs(p.get(1));
+    }
+
+    @Test
+    void queryParamMustBePresentAndNotBlank() {
+        List<RoutePolicy> p = List.of(
+                policy(0, "/api/posts", "GET", "keyword"),
+                policy(1, "/api/posts", "GET", null));
+        RouteMatcher matcher = new RouteMatcher(p);
+
+        MockHttpServletRequest search = get("/api/posts");
+        search.setParameter("keyword", "pizza");
+        MockHttpServletRequest blank = get("/api/posts");
+        blank.setParameter("keyword", "  ");
+
+        assertThat(matcher.match(search, "/api/posts")).isSameAs(p.get(0));
+        assertThat(matcher.match(blank, "/api/posts")).isSameAs(p.get(1));
+        assertThat(matcher.match(get("/api/posts"), "/api/posts")).isSameAs(p.get(1));
+    }
+
+    @Test
+    void doubleStarOnlyAsLastSegment() {
+        assertThatThrownBy(() -> new RouteMatcher(policies("/api/**/comments")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<RoutePolicy> policies(String... patterns) {
+        List<RoutePolicy> out = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) {
+            out.add(policy(i, patterns[i], null, null));
+        }
+        return out;
+    }
+
+    private static RoutePolicy policy(int id, String pattern, String method, String queryParam) {
+        return new RoutePolicy(id, pattern, method, queryParam, QUOTA, 1, RoutePolicy.KeyType.IP);
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return request("GET", uri);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
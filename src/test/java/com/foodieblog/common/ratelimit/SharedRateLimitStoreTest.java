@@ -0,0 +1,126 @@
+package com.foodieblog.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드) 하나를 두 노드가 공유하는 상황에서 사용량 upsert / 정산 확인
+ * - 백그라운드 flusher 는 멀리 미뤄 두고 flush()/sweep() 을 직접 호출
+ */
+class SharedRateLimitStoreTest {
+
+    private static final long KEY = 42L;
+    private static final long FLUSH_MS = 60_000;
+    // 테스트 도중 창이 바뀌지 않도록 넉넉한 창
+    private static final RateLimitQuota QUOTA = new RateLimitQuota(20, 24 * 3600_000L);
+
+    private JdbcTemplate jdbcTemplate;
+    private SharedRateLimitStore nodeA;
+    private SharedRateLimitStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:ratelimit-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(ds);
+        jdbcTemplate.execute("""
+                CREATE TABLE rate_limit_windows (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                  bucket_key BIGINT NOT NULL,
+                  window_start BIGINT NOT NULL,
+                  used BIGINT NOT NULL,
+                  expires_at DATETIME(6) NOT NULL,
+                  CONSTRAINT uk_rate_limit_windows_key_window UNIQUE (bucket_key, window_start)
+                )""");
+
+        nodeA = store();
+        nodeB = store();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    void flush_reportsActualUsageNotLeaseSize() {
+        assertThat(nodeA.tryAcquire(KEY, 1, QUOTA)).isZero();
+        assertThat(nodeA.tryAcquire(KEY, 1, QUOTA)).isZero();
+
+        nodeA.sweep();
+        nodeA.flush();
+        assertThat(used()).isEqualTo(2);
+
+        // 같은 창에 다시 보고하면 upsert 로 누적
+        nodeA.tryAcquire(KEY, 1, QUOTA);
+        nodeA.sweep();
+        nodeA.flush();
+        assertThat(used()).isEqualTo(3);
+    }
+
+    @Test
+    void unusedLeaseOnOneNode_doesNotStarveTheOther() {
+        // A 는 lease(10) 를 받아 두고 1 개만 사용
+        assertThat(nodeA.tryAcquire(KEY, 1, QUOTA)).isZero();
+        nodeA.sweep();
+        nodeA.flush();
+
+        int grantedB = drain(nodeB);
+        assertThat(grantedB).isEqualTo(QUOTA.limit() - 1);
+        assertThat(used()).isEqualTo(QUOTA.limit());
+    }
+
+    @Test
+    void clusterLimitReached_deniesUntilWindowEnd() {
+        assertThat(drain(nodeA)).isEqualTo(QUOTA.limit());
+        assertThat(nodeA.tryAcquire(KEY, 1, QUOTA)).isGreaterThan(FLUSH_MS * 1000L);
+
+        // 처음 보는 노드는 선지급 lease 1개까지만 초과 허용, 정산 후엔 창 끝까지 거절
+        assertThat(drain(nodeB)).isLessThanOrEqualTo(QUOTA.limit() / 2);
+        assertThat(nodeB.tryAcquire(KEY, 1, QUOTA)).isGreaterThan(FLUSH_MS * 1000L);
+    }
+
+    @Test
+    void leaseIsCappedAtLimitPerNode() {
+        SharedRateLimitStore small = new SharedRateLimitStore(
+                jdbcTemplate, new SimpleMeterRegistry(), 1024, 10, 4, 1000, FLUSH_MS, FLUSH_MS);
+        try {
+            RateLimitQuota quota = new RateLimitQuota(8, 24 * 3600_000L);
+            assertThat(small.tryAcquire(7L, 1, quota)).isZero();
+            assertThat(small.tryAcquire(7L, 1, quota)).isZero();
+            // limit 8 / 4 노드 = lease 2 → 정산 전에는 더 못 씀
+            assertThat(small.tryAcquire(7L, 1, quota)).isEqualTo(FLUSH_MS * 1000L);
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    /** 거절될 때까지 쓰고, 거절되면 정산 후 다시 — 창 한도 소진까지 허용된 수 */
+    private int drain(SharedRateLimitStore node) {
+        int granted = 0;
+        for (int round = 0; round < 10; round++) {
+            while (node.tryAcquire(KEY, 1, QUOTA) == 0L) granted++;
+            node.sweep();
+            node.flush();
+        }
+        return granted;
+    }
+
+    private long used() {
+        Long used = jdbcTemplate.queryForObject("SELECT used FROM rate_limit_windows WHERE bucket_key = ?", Long.class, KEY);
+        return used == null ? 0 : used;
+    }
+
+    private SharedRateLimitStore store() {
+        return new SharedRateLimitStore(jdbcTemplate, new SimpleMeterRegistry(), 1024, 10, 2, 1000, FLUSH_MS, FLUSH_MS);
+    }
+}
@@ -0,0 +1,86 @@
+package com.foodieblog.common.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HLL 추정 오차, sparse → dense 전환, merge, 직렬화 확인 (p=14, 표준오차 ~0.8%)
+ */
+class HyperLogLogTest {
+
+    @Test
+    void smallCardinalityIsNearlyExactInSparseMode() {
+        HyperLogLog hll = sketch(0, 1_000);
+
+        assertThat(hll.isSparse()).isTrue();
+        assertThat((double) hll.cardinality()).isCloseTo(1_000, within(10.0));
+    }
+
+    @Test
+    void duplicatesDoNotCount() {
+        HyperLogLog hll = sketch(0, 500);
+        for (int i = 0; i < 500; i++) hll.add(Hashing.mix64(i));
+
+        assertThat((double) hll.cardinality()).isCloseTo(500, within(5.0));
+    }
+
+    @Test
+    void largeCardinalityWithinFewStandardErrors() {
+        HyperLogLog hll = sketch(0, 200_000);
+
+        assertThat(hll.isSparse()).isFalse();
+        assertThat((double) hll.cardinality()).isCloseTo(200_000, within(200_000 * 0.03));
+    }
+
+    @Test
+    void mergeEqualsUnionRegardlessOfOrderAndOverlap() {
+        HyperLogLog a = sketch(0, 60_000);
+        HyperLogLog b = sketch(40_000, 100_000); // 20_000 겹침
+        HyperLogLog union = sketch(0, 100_000);
+
+        HyperLogLog ab = a.copy();
+        ab.merge(b);
+        HyperLogLog ba = b.copy();
+        ba.merge(a);
+
+        assertThat(ab.cardinality()).isEqualTo(union.cardinality());
+        assertThat(ba.cardinality()).isEqualTo(union.cardinality());
+    }
+
+    @Test
+    void sparseMergeIntoDense() {
+        HyperLogLog dense = sketch(0, 50_000);
+        HyperLogLog sparse = sketch(50_000, 50_100);
+        dense.merge(sparse);
+
+        assertThat(dense.cardinality()).isEqualTo(sketch(0, 50_100).cardinality());
+    }
+
+    @Test
+    void bytesRoundTripInBothFormats() {
+        HyperLogLog sparse = sketch(0, 300);
+        HyperLogLog dense = sketch(0, 50_000);
+
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes()).cardinality()).isEqualTo(sparse.cardinality());
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes()).isSparse()).isTrue();
+        assertThat(HyperLogLog.fromBytes(dense.toBytes()).cardinality()).isEqualTo(dense.cardinality());
+        // dense 는 레지스터당 6bit → 2^14 * 6 / 8 + 헤더 2byte
+        assertThat(dense.toBytes()).hasSize(2 + (1 << 14) * 6 / 8);
+    }
+
+    @Test
+    void precisionMismatchIsRejected() {
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(14)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** [from, to) 정수를 해시해서 넣은 sketch */
+    private static HyperLogLog sketch(int from, int to) {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = from; i < to; i++) hll.add(Hashing.mix64(i));
+        return hll;
+    }
+}
@@ -0,0 +1,116 @@
+package com.foodieblog.common.ttl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 행 배치 삭제와 노드 간 lease 확인 (H2 MySQL 모드)
+ * - 같은 DB 를 보는 janitor 두 개 = 노드 두 개
+ */
+class TtlJanitorTest {
+
+    private static final TtlTable SESSIONS = new TtlTable("sessions", "id", "expires_at");
+
+    private JdbcTemplate jdbcTemplate;
+    private TtlJanitor janitor;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:ttl-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        ds.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(ds);
+        jdbcTemplate.execute("CREATE TABLE sessions (id BIGINT PRIMARY KEY, expires_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE job_leases (name VARCHAR(64) PRIMARY KEY, owner VARCHAR(64) NOT NULL, lease_until DATETIME NOT NULL)");
+
+        janitor = janitor(3, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        janitor.shutdown();
+    }
+
+    @Test
+    void purgesOnlyExpiredRowsInBatches() {
+        insert(1, 10, -60);
+        insert(100, 2, 3600);
+
+        assertThat(janitor.purge(SESSIONS)).isEqualTo(10);
+        assertThat(remainingIds()).containsExactly(100L, 101L);
+    }
+
+    @Test
+    void stopsAfterMaxBatches() {
+        TtlJanitor limited = janitor(3, 2);
+        insert(1, 10, -60);
+
+        assertThat(limited.purge(SESSIONS)).isEqualTo(6);
+        assertThat(limited.purge(SESSIONS)).isEqualTo(4);
+        limited.shutdown();
+    }
+
+    @Test
+    void onlyOneNodeRunsWhileLeaseIsHeld() {
+        TtlJanitor other = janitor(3, 10);
+
+        assertThat(janitor.tryLease()).isTrue();
+        assertThat(other.tryLease()).isFalse();
+
+        // 다른 노드는 건너뛰므로 만료 행이 남는다
+        insert(1, 5, -60);
+        other.purgeAll();
+        assertThat(remainingIds()).hasSize(5);
+        other.shutdown();
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() {
+        TtlJanitor other = janitor(3, 10);
+        assertThat(janitor.tryLease()).isTrue();
+
+        jdbcTemplate.update("UPDATE job_leases SET lease_until = ?", Timestamp.from(Instant.now().minusSeconds(1)));
+
+        assertThat(other.tryLease()).isTrue();
+        assertThat(janitor.tryLease()).isFalse();
+        other.shutdown();
+    }
+
+    @Test
+    void scheduledPurgeRunsOffTheCallingThread() throws InterruptedException {
+        insert(1, 5, -60);
+
+        janitor.scheduledPurge();
+
+        for (int i = 0; i < 100 && !remainingIds().isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(remainingIds()).isEmpty();
+    }
+
+    private TtlJanitor janitor(int batchSize, int maxBatches) {
+        return new TtlJanitor(jdbcTemplate, List.of(SESSIONS), new SimpleMeterRegistry(), batchSize, 0, maxBatches, 60_000);
+    }
+
+    private void insert(long firstId, int count, long expiresInSeconds) {
+        Timestamp expiresAt = Timestamp.from(Instant.now().plusSeconds(expiresInSeconds));
+        for (long id = firstId; id < firstId + count; id++) {
+            jdbcTemplate.update("INSERT INTO sessions (id, expires_at) VALUES (?, ?)", id, expiresAt);
+        }
+    }
+
+    private List<Long> remainingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM sessions ORDER BY id", Long.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.foodieblog.reaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bloom 사전 확인 — 음성이면 DB 를 건너뛰고, 양성은 항상 DB 로 확인
+ * - 다른 인스턴스의 반응은 sync 이후부터 양성
+ */
+class ReactedFilterTest {
+
+    private static final ReactionTargetType POST = ReactionTargetType.POST;
+
+    private ReactionRepository repository;
+    private SimpleMeterRegistry registry;
+    private ReactedFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ReactionRepository.class);
+        when(repository.findKeysAfter(anyLong(), any())).thenReturn(List.of());
+        registry = new SimpleMeterRegistry();
+        filter = new ReactedFilter(repository, registry, 10_000, 0.01);
+        filter.load();
+    }
+
+    @Test
+    void negativeSkipsTheDatabase() {
+        assertThat(filter.mine(POST, 1L, 7L)).isEmpty();
+
+        verify(repository, never()).findTypesByUser(any(), any(), any());
+        assertThat(checks("negative")).isEqualTo(1.0);
+    }
+
+    @Test
+    void positiveIsConfirmedInTheDatabase() {
+        filter.put(POST, 1L, 7L, ReactionType.LIKE);
+        when(repository.findTypesByUser(POST, 1L, 7L)).thenReturn(List.of(ReactionType.LIKE));
+
+        assertThat(filter.mine(POST, 1L, 7L)).containsExactly(ReactionType.LIKE);
+        assertThat(checks("confirmed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void cancelledReactionStaysPositiveButDatabaseSaysNo() {
+        filter.put(POST, 1L, 7L, ReactionType.LIKE);
+        when(repository.findTypesByUser(POST, 1L, 7L)).thenReturn(List.of());
+
+        assertThat(filter.mine(POST, 1L, 7L)).isEmpty();
+        assertThat(checks("false_positive")).isEqualTo(1.0);
+    }
+
+    @Test
+    void reactionsFromOtherInstancesArriveWithSync() {
+        when(repository.findKeysCreatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{POST, 2L, 9L, ReactionType.YUM}));
+        when(repository.findTypesByUser(POST, 2L, 9L)).thenReturn(List.of(ReactionType.YUM));
+
+        assertThat(filter.mine(POST, 2L, 9L)).isEmpty();
+
+        filter.sync();
+
+        assertThat(filter.mine(POST, 2L, 9L)).containsExactly(ReactionType.YUM);
+    }
+
+    @Test
+    void loadPagesThroughExistingReactions() {
+        when(repository.findKeysAfter(eq(0L), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, POST, 3L, 4L, ReactionType.WOW}));
+        when(repository.findTypesByUser(POST, 3L, 4L)).thenReturn(List.of(ReactionType.WOW));
+
+        filter.load();
+
+        assertThat(filter.mine(POST, 3L, 4L)).containsExactly(ReactionType.WOW);
+    }
+
+    private double checks(String result) {
+        return registry.get("reaction.bloom.checks").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,169 @@
+package com.foodieblog.stats;
+
+import com.foodieblog.category.Category;
+import com.foodieblog.category.CategoryRepository;
+import com.foodieblog.comment.CommentService;
+import com.foodieblog.comment.dto.CommentCreateRequest;
+import com.foodieblog.post.PostService;
+import com.foodieblog.post.dto.PostCreateRequest;
+import com.foodieblog.post.dto.PostUpdateRequest;
+import com.foodieblog.user.User;
+import com.foodieblog.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재계산과 반영 대기 delta 의 epoch 펜스, 카테고리 이동 시 집계 이동 확인
+ * - 펜스: 원본 행 없이 delta 만 만든다 → 재계산 스냅샷은 0건, 펜스가 없으면 그 위에 delta 가 더해진다
+ *   (다른 테스트와 겹치지 않도록 먼 과거 날짜와 없는 카테고리 id 사용)
+ * - 카테고리 이동: delta 로 유지한 hourly 가 backfill(재계산) 결과와 같은지 비교
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyStatsRollupTest {
+
+    private static final LocalDate DAY = LocalDate.of(2001, 2, 3);
+    private static final LocalDateTime HOUR = DAY.atTime(10, 0);
+    private static final long CATEGORY = 987_654L;
+
+    @Autowired
+    private DailyStatsRollup dailyStatsRollup;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentService commentService;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        // test 프로필은 마이그레이션 없이 create-drop → 잠금 행은 직접 넣는다
+        jdbcTemplate.update("MERGE INTO stats_rollup_lock (lock_id, epoch) KEY (lock_id) VALUES (1, 0)");
+        dailyStatsRollup.rebuildRange(DAY, DAY);
+        dailyStatsRollup.flush();
+    }
+
+    @Test
+    void deltaCommittedBeforeRebuildIsNotAddedAgain() {
+        tx.executeWithoutResult(s -> dailyStatsRollup.addPosts(HOUR.plusMinutes(5), CATEGORY, 1));
+
+        // 재계산 스냅샷이 이 커밋을 포함한다 (여기선 원본 행이 없으므로 0건으로 다시 씀)
+        dailyStatsRollup.rebuildRange(DAY, DAY);
+        dailyStatsRollup.flush();
+
+        assertThat(hourlyPosts()).isZero();
+        assertThat(dailyPosts()).isZero();
+    }
+
+    @Test
+    void deltaCommittedAfterRebuildIsApplied() {
+        dailyStatsRollup.rebuildRange(DAY, DAY);
+
+        tx.executeWithoutResult(s -> dailyStatsRollup.addPosts(HOUR.plusMinutes(5), CATEGORY, 1));
+        dailyStatsRollup.flush();
+
+        assertThat(hourlyPosts()).isEqualTo(1);
+        assertThat(dailyPosts()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildOfAnotherRangeDoesNotFenceDelta() {
+        tx.executeWithoutResult(s -> dailyStatsRollup.addPosts(HOUR, CATEGORY, 2));
+
+        dailyStatsRollup.rebuildRange(DAY.plusDays(1), DAY.plusDays(1));
+        dailyStatsRollup.flush();
+
+        assertThat(hourlyPosts()).isEqualTo(2);
+    }
+
+    @Test
+    void rolledBackDeltaIsNotApplied() {
+        tx.executeWithoutResult(s -> {
+            dailyStatsRollup.addPosts(HOUR, CATEGORY, 1);
+            s.setRollbackOnly();
+        });
+        dailyStatsRollup.flush();
+
+        assertThat(hourlyPosts()).isZero();
+    }
+
+    @Test
+    void categoryMoveCarriesCommentsAndMatchesBackfill() {
+        String tag = "move-" + System.nanoTime();
+        Category from = categoryRepository.save(new Category(tag + "-from", tag + "-from"));
+        Category to = categoryRepository.save(new Category(tag + "-to", tag + "-to"));
+        Long authorId = userRepository.save(User.builder()
+                .email(tag + "@example.com")
+                .passwordHash("x")
+                .nickname(tag)
+                .role(User.Role.USER)
+                .build()).getUserId();
+
+        Long postId = postService.create(authorId,
+                new PostCreateRequest("title", "content", "restaurant", null, null, from.getId())).getId();
+        for (int i = 0; i < 3; i++) {
+            commentService.create(postId, authorId, new CommentCreateRequest("comment " + i));
+        }
+        LocalDate today = LocalDate.now();
+        dailyStatsRollup.rebuildRange(today, today);
+
+        postService.update(authorId, postId,
+                new PostUpdateRequest("title", "content", "restaurant", null, null, to.getId()));
+        dailyStatsRollup.flush();
+
+        List<Long> categories = List.of(from.getId(), to.getId());
+        Map<String, Object> maintained = hourlyTotals(today, categories);
+        assertThat(((Number) maintained.get("POSTS_TO")).longValue()).isEqualTo(1);
+        assertThat(((Number) maintained.get("COMMENTS_TO")).longValue()).isEqualTo(3);
+        assertThat(((Number) maintained.get("COMMENTS_FROM")).longValue()).isZero();
+
+        dailyStatsRollup.rebuildRange(today, today);
+        assertThat(hourlyTotals(today, categories)).isEqualTo(maintained);
+    }
+
+    private Map<String, Object> hourlyTotals(LocalDate day, List<Long> categories) {
+        return jdbcTemplate.queryForMap("""
+                SELECT COALESCE(SUM(CASE WHEN category_id = ? THEN post_count END), 0) AS posts_from,
+                       COALESCE(SUM(CASE WHEN category_id = ? THEN post_count END), 0) AS posts_to,
+                       COALESCE(SUM(CASE WHEN category_id = ? THEN comment_count END), 0) AS comments_from,
+                       COALESCE(SUM(CASE WHEN category_id = ? THEN comment_count END), 0) AS comments_to
+                FROM hourly_stats
+                WHERE stat_hour >= ? AND stat_hour < ?
+                """, categories.get(0), categories.get(1), categories.get(0), categories.get(1),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    private long hourlyPosts() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(post_count), 0) FROM hourly_stats WHERE stat_hour = ? AND category_id = ?",
+                Long.class, HOUR, CATEGORY);
+    }
+
+    private long dailyPosts() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(post_count), 0) FROM daily_stats WHERE stat_date = ? AND category_id = ?",
+                Long.class, DAY, CATEGORY);
+    }
+}
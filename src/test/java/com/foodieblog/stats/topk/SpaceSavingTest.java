@@ -0,0 +1,125 @@
+package com.foodieblog.stats.topk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Space-Saving 오차 보장 확인: count - error <= 실제 <= count, 추적 밖 key 는 floor 이하
+ * - 단일 요약 / merge 한 요약 / 직렬화 왕복 모두 같은 보장을 지켜야 한다
+ */
+class SpaceSavingTest {
+
+    @Test
+    void exactWhileUnderCapacity() {
+        SpaceSaving<String> s = new SpaceSaving<>(10);
+        s.offer("a", 3);
+        s.offer("b", 1);
+        s.offer("a", 2);
+
+        assertThat(s.top(10)).containsExactly(
+                new SpaceSaving.Counted<>("a", 5, 0),
+                new SpaceSaving.Counted<>("b", 1, 0));
+        assertThat(s.floor()).isZero();
+    }
+
+    @Test
+    void newKeyInheritsMinimumWhenFull() {
+        SpaceSaving<String> s = new SpaceSaving<>(2);
+        s.offer("a", 5);
+        s.offer("b", 2);
+        s.offer("c", 1);
+
+        assertThat(s.top(2)).containsExactly(
+                new SpaceSaving.Counted<>("a", 5, 0),
+                new SpaceSaving.Counted<>("c", 3, 2));
+        assertThat(s.floor()).isEqualTo(2);
+    }
+
+    @Test
+    void boundsHoldOnSkewedStream() {
+        Map<Long, Long> truth = new HashMap<>();
+        SpaceSaving<Long> s = new SpaceSaving<>(50);
+        feed(s, truth, new Random(1), 50_000, 0);
+
+        assertBounds(s, truth);
+        // 가장 큰 key 는 반드시 잡힌다
+        assertThat(s.top(1).get(0).key()).isEqualTo(0L);
+    }
+
+    @Test
+    void mergeKeepsBoundsAcrossSummaries() {
+        Map<Long, Long> truth = new HashMap<>();
+        SpaceSaving<Long> a = new SpaceSaving<>(40);
+        SpaceSaving<Long> b = new SpaceSaving<>(40);
+        feed(a, truth, new Random(2), 30_000, 0);
+        feed(b, truth, new Random(3), 30_000, 7); // 분포를 밀어서 한쪽에만 있는 key 가 생기게
+
+        a.merge(b);
+
+        assertThat(a.top(Integer.MAX_VALUE)).hasSizeLessThanOrEqualTo(40);
+        assertBounds(a, truth);
+    }
+
+    @Test
+    void retractOnlyTouchesTrackedKeys() {
+        SpaceSaving<String> s = new SpaceSaving<>(2);
+        s.offer("a", 5);
+        s.retract("a", 2);
+        s.retract("missing", 10);
+
+        assertThat(s.top(1)).containsExactly(new SpaceSaving.Counted<>("a", 3, 0));
+    }
+
+    @Test
+    void ofExactKeepsTopAndRecordsFloor() {
+        SpaceSaving<String> s = SpaceSaving.ofExact(2, Map.of("a", 9L, "b", 5L, "c", 4L, "d", 1L));
+
+        assertThat(s.top(2)).extracting(SpaceSaving.Counted::key).containsExactly("a", "b");
+        assertThat(s.floor()).isEqualTo(4);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        SpaceSaving<Long> s = new SpaceSaving<>(3);
+        for (long k = 0; k < 10; k++) s.offer(k, k + 1);
+
+        SpaceSaving<Long> back = SpaceSaving.fromBytes(s.toBytes(SpaceSaving.KeyCodec.LONG), SpaceSaving.KeyCodec.LONG);
+        assertThat(back.top(3)).isEqualTo(s.top(3));
+        assertThat(back.floor()).isEqualTo(s.floor());
+        assertThat(back.capacity()).isEqualTo(3);
+
+        SpaceSaving<String> named = new SpaceSaving<>(2);
+        named.offer("맛집", 4);
+        assertThat(SpaceSaving.fromBytes(named.toBytes(SpaceSaving.KeyCodec.STRING), SpaceSaving.KeyCodec.STRING).top(1))
+                .containsExactly(new SpaceSaving.Counted<>("맛집", 4, 0));
+    }
+
+    /** Zipf 비슷한 분포 (작은 key 일수록 자주) */
+    private static void feed(SpaceSaving<Long> s, Map<Long, Long> truth, Random random, int n, long shift) {
+        for (int i = 0; i < n; i++) {
+            long key = (long) Math.floor(Math.pow(1000, random.nextDouble())) - 1 + shift;
+            s.offer(key, 1);
+            truth.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static void assertBounds(SpaceSaving<Long> s, Map<Long, Long> truth) {
+        List<SpaceSaving.Counted<Long>> tracked = s.top(Integer.MAX_VALUE);
+        for (SpaceSaving.Counted<Long> c : tracked) {
+            long actual = truth.getOrDefault(c.key(), 0L);
+            assertThat(c.count()).as("upper bound of %s", c.key()).isGreaterThanOrEqualTo(actual);
+            assertThat(c.count() - c.error()).as("lower bound of %s", c.key()).isLessThanOrEqualTo(actual);
+        }
+        truth.forEach((key, actual) -> {
+            if (tracked.stream().noneMatch(c -> c.key().equals(key))) {
+                assertThat(actual).as("untracked %s", key).isLessThanOrEqualTo(s.floor());
+            }
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.foodieblog.stats.topk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구간 조회 = 자투리 일 요약 + 꽉 찬 달 월 요약
+ * - 월 요약은 첫 조회 때 만들어지고, 그 달 일 요약이 바뀌면 다시 만들어진다
+ * - 테스트마다 다른 kind, 먼 과거 날짜 사용 (보관 기간을 길게 잡아 add 가 버리지 않게)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TopKWindowTest {
+
+    private static final LocalDate FROM = LocalDate.of(2003, 1, 15);
+    private static final LocalDate TO = LocalDate.of(2003, 4, 10);
+
+    @Autowired
+    private TopKSummaryRepository repository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String kind;
+    private TopKWindow<String> window;
+
+    @BeforeEach
+    void setUp() {
+        kind = "t" + UUID.randomUUID().toString().substring(0, 7);
+        window = new TopKWindow<>(kind, SpaceSaving.KeyCodec.STRING, repository, 20_000, 50, 200);
+    }
+
+    @Test
+    void fullMonthsComeFromMonthSummaries() {
+        // 자투리 1월/4월, 꽉 찬 2월/3월에 골고루
+        for (LocalDate d = FROM; !d.isAfter(TO); d = d.plusDays(1)) {
+            window.add(d, "daily", 1);
+        }
+        window.add(LocalDate.of(2003, 1, 20), "head", 5);
+        window.add(LocalDate.of(2003, 2, 10), "feb", 40);
+        window.add(LocalDate.of(2003, 3, 31), "mar", 30);
+        window.add(LocalDate.of(2003, 4, 1), "tail", 7);
+        window.add(LocalDate.of(2003, 4, 11), "outside", 100);
+        window.flush();
+
+        assertThat(window.top(FROM, TO, 10)).containsExactly(
+                new SpaceSaving.Counted<>("daily", 86, 0),
+                new SpaceSaving.Counted<>("feb", 40, 0),
+                new SpaceSaving.Counted<>("mar", 30, 0),
+                new SpaceSaving.Counted<>("tail", 7, 0),
+                new SpaceSaving.Counted<>("head", 5, 0));
+        assertThat(monthRows()).isEqualTo(2);
+
+        // 두 번째 조회는 저장된 월 요약 그대로 (같은 결과)
+        assertThat(window.top(FROM, TO, 1)).containsExactly(new SpaceSaving.Counted<>("daily", 86, 0));
+    }
+
+    @Test
+    void monthIsRebuiltWhenItsDaysChange() {
+        window.add(LocalDate.of(2003, 2, 10), "a", 10);
+        window.flush();
+        assertThat(window.top(FROM, TO, 1)).containsExactly(new SpaceSaving.Counted<>("a", 10, 0));
+        long before = fingerprint(LocalDate.of(2003, 2, 1));
+
+        // 이미 있는 일 요약 갱신 + 새 일 요약 추가
+        window.add(LocalDate.of(2003, 2, 10), "a", -4);
+        window.add(LocalDate.of(2003, 2, 20), "b", 9);
+        window.flush();
+
+        assertThat(window.top(FROM, TO, 2)).containsExactly(
+                new SpaceSaving.Counted<>("b", 9, 0),
+                new SpaceSaving.Counted<>("a", 6, 0));
+        assertThat(fingerprint(LocalDate.of(2003, 2, 1))).isNotEqualTo(before);
+    }
+
+    @Test
+    void rangeWithoutFullMonthReadsOnlyDays() {
+        window.add(LocalDate.of(2003, 1, 20), "a", 3);
+        window.flush();
+
+        assertThat(window.top(LocalDate.of(2003, 1, 2), LocalDate.of(2003, 2, 27), 5))
+                .containsExactly(new SpaceSaving.Counted<>("a", 3, 0));
+        assertThat(monthRows()).isZero();
+    }
+
+    private int monthRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM topk_summaries WHERE kind = ?", Integer.class, kind + "/m");
+    }
+
+    private long fingerprint(LocalDate month) {
+        return jdbcTemplate.queryForObject(
+                "SELECT source_fingerprint FROM topk_summaries WHERE kind = ? AND stat_date = ?",
+                Long.class, kind + "/m", month);
+    }
+}